@@ -0,0 +1,81 @@
+package com.automation.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calendar header parsing and month arithmetic used on every calendar navigation step
+ * (CalendarNavigator replaced the old extractMonth/extractYear/isMonthBefore helpers).
+ * splitParse is the previous toUpperCase/split implementation, kept as the baseline;
+ * run with -Djmh.args="CalendarParsing -prof gc" to compare allocation rates too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarParsingBenchmark {
+
+    private static final Map<String, Month> MONTH_NAMES = new HashMap<>();
+
+    static {
+        for (Month month : Month.values()) {
+            MONTH_NAMES.put(month.name(), month);
+            MONTH_NAMES.put(month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase(Locale.ROOT), month);
+        }
+    }
+
+    @Param({"October 2026", "OCT 2026", "October\u00a02026", "Sa, 24 Oct 2026", "Departure Date"})
+    public String header;
+
+    private YearMonth target;
+
+    @Setup
+    public void setUp() {
+        target = YearMonth.of(2027, 3);
+    }
+
+    @Benchmark
+    public YearMonth headerParser() {
+        return CalendarHeaderParser.parse(header);
+    }
+
+    @Benchmark
+    public YearMonth splitParse() {
+        Month month = null;
+        int year = -1;
+        for (String token : header.toUpperCase(Locale.ROOT).split("[^A-Z0-9]+")) {
+            if (month == null && MONTH_NAMES.containsKey(token)) {
+                month = MONTH_NAMES.get(token);
+            } else if (year < 0 && token.length() == 4 && token.chars().allMatch(Character::isDigit)) {
+                year = Integer.parseInt(token);
+            }
+        }
+        return month != null && year > 0 ? YearMonth.of(year, month) : null;
+    }
+
+    @Benchmark
+    public long monthDelta() {
+        YearMonth displayed = CalendarNavigator.parseMonthYear(header);
+        return displayed == null ? 0 : displayed.until(target, ChronoUnit.MONTHS);
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UI keyword filter applied to every candidate text while listing or matching cities.
+ * Each invocation filters a batch of dropdown texts (cities, UI labels, numbers);
+ * containsScan is the previous lowercase + String.contains + regex implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityFilterBenchmark {
+
+    private static final String[] SAMPLES = {
+        "Bengaluru", "Thiruvananthapuram", "Hyderabad", "Ahmedabad", "Visakhapatnam", "Guwahati",
+        "Select Departure City", "Apply", "Close", "2026", "X", "Passengers & Class"
+    };
+    private static final String[] LEGACY_KEYWORDS = CitySelectionUtils.DEFAULT_UI_KEYWORDS.split(",");
+
+    @Param({"10000"})
+    public int size;
+
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        texts = new String[size];
+        for (int i = 0; i < size; i++) {
+            // Fresh copies so nothing benefits from cached String state
+            texts[i] = new String(SAMPLES[random.nextInt(SAMPLES.length)]);
+        }
+        CitySelectionUtils.getUIKeywords();
+    }
+
+    @Benchmark
+    public int keywordMatcher() {
+        int uiElements = 0;
+        for (String text : texts) {
+            if (CitySelectionUtils.isUIElement(text)) {
+                uiElements++;
+            }
+        }
+        return uiElements;
+    }
+
+    @Benchmark
+    public int containsScan() {
+        int uiElements = 0;
+        for (String text : texts) {
+            if (containsScan(text)) {
+                uiElements++;
+            }
+        }
+        return uiElements;
+    }
+
+    private static boolean containsScan(String text) {
+        String lowerText = text.toLowerCase();
+        for (String uiElement : LEGACY_KEYWORDS) {
+            if (lowerText.equals(uiElement) || lowerText.contains(uiElement)) {
+                return true;
+            }
+        }
+        return text.matches("\\d+") || text.length() == 1;
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving user input against the bundled airport catalog with CityIndex, and
+ * the previous exact/contains/starts-with passes over the option texts
+ * (without the dropdown scrape that preceded every call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityIndexBenchmark {
+
+    @Param({"DEL", "Mumbai", "ananthapuram", "Hydrabad", "Atlantis"})
+    public String input;
+
+    private CityIndex index;
+    private List<String> optionTexts;
+
+    @Setup
+    public void setUp() {
+        index = CityIndex.fromCatalog();
+        optionTexts = new ArrayList<>();
+        for (CityIndex.City city : index.getCities()) {
+            optionTexts.add(city.getOptionText());
+        }
+    }
+
+    @Benchmark
+    public CityIndex.City cityIndex() {
+        return index.resolve(input);
+    }
+
+    @Benchmark
+    public String linearPasses() {
+        for (String city : optionTexts) {
+            if (city.equalsIgnoreCase(input)) {
+                return city;
+            }
+        }
+        for (String city : optionTexts) {
+            if (city.toLowerCase().contains(input.toLowerCase())) {
+                return city;
+            }
+        }
+        for (String city : optionTexts) {
+            if (city.toLowerCase().startsWith(input.toLowerCase())) {
+                return city;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.automation.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReader lookups, which sit on most hot paths (timeouts, feature flags).
+ * Runs with several threads since parallel tests read config concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConfigReaderBenchmark {
+
+    private static final String OVERRIDE_KEY = "jmh.benchmark.override";
+
+    @Setup
+    public void setUp() {
+        ConfigReader.loadProperties();
+        System.setProperty(OVERRIDE_KEY, "true");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(OVERRIDE_KEY);
+    }
+
+    @Benchmark
+    public String configHit() {
+        return ConfigReader.getProperty("browser");
+    }
+
+    @Benchmark
+    public String missWithDefault() {
+        return ConfigReader.getProperty("jmh.benchmark.missing", "default");
+    }
+
+    @Benchmark
+    public String systemPropertyOverride() {
+        return ConfigReader.getProperty(OVERRIDE_KEY);
+    }
+}
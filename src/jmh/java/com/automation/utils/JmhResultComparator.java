@@ -0,0 +1,72 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files (-rf json) benchmark by benchmark and flags
+ * scores that got worse by more than the threshold.
+ *
+ * Usage: JmhResultComparator baseline.json current.json [thresholdPercent, default 10]
+ */
+public class JmhResultComparator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: JmhResultComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode metric = entry.getValue().path("primaryMetric");
+            double now = metric.path("score").asDouble();
+            String unit = metric.path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double was = before.path("primaryMetric").path("score").asDouble();
+            double change = was == 0 ? 0 : (now - was) * 100.0 / was;
+            // Time per op gets worse when it grows, throughput when it shrinks
+            boolean worse = unit.contains("/op") ? change > threshold : change < -threshold;
+            if (worse) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), was, now, change,
+                worse ? "  REGRESSION" : "");
+        }
+        System.out.println(regressions + " regression(s) above " + threshold + "%");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Results keyed by benchmark name plus its parameters
+     */
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            JsonNode params = result.path("params");
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
@@ -1,5 +1,8 @@
 package com.automation.base;
 
+import com.automation.jfr.PageObjectInitEvent;
+import com.automation.jfr.WaitEvent;
+import com.automation.utils.CommandLatencyRecorder;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
@@ -25,21 +28,45 @@ public abstract class BasePage {
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         this.actions = new Actions(driver);
         this.jsExecutor = (JavascriptExecutor) driver;
+        PageObjectInitEvent event = new PageObjectInitEvent();
+        event.pageClass = getClass();
+        event.begin();
         PageFactory.initElements(driver, this);
+        event.commit();
     }
     
     /**
      * Wait for element to be visible
      */
     protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        WaitEvent event = new WaitEvent();
+        event.condition = "visible";
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            wait.until(ExpectedConditions.visibilityOf(element));
+            event.satisfied = true;
+        } finally {
+            CommandLatencyRecorder.recordWait("visible", start);
+            event.commit();
+        }
     }
     
     /**
      * Wait for element to be clickable
      */
     protected void waitForElementToBeClickable(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        WaitEvent event = new WaitEvent();
+        event.condition = "clickable";
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            wait.until(ExpectedConditions.elementToBeClickable(element));
+            event.satisfied = true;
+        } finally {
+            CommandLatencyRecorder.recordWait("clickable", start);
+            event.commit();
+        }
     }
     
     /**
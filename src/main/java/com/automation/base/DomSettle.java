@@ -0,0 +1,186 @@
+package com.automation.base;
+
+import com.automation.jfr.SleepEvent;
+import com.automation.jfr.WaitEvent;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.CommandLatencyRecorder;
+import com.automation.utils.TimingStats;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event-driven replacement for fixed sleeps: waits until the page has settled,
+ * i.e. the document is loaded, no fetch/XHR request is pending, no finite CSS
+ * animation is running and the DOM has not mutated for dom.settle.quiet.ms.
+ *
+ * Tracking is installed in the page on first use (MutationObserver plus
+ * fetch/XHR wrappers). Every call returns whether the page settled. A wait that
+ * hits dom.settle.timeout.ms (pages with constant mutations, beacons or long
+ * polling) is logged. The time saved against the sleep a wait replaced, and the
+ * time lost when a wait ran longer than that sleep, are totalled per test and
+ * per run together with the number of timeouts.
+ */
+public class DomSettle {
+
+    private static final String SETTLE_SCRIPT =
+        "var quietMs = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];"
+        + "if (!window.__domSettle) {"
+        + "  var t = window.__domSettle = {last: performance.now(), pending: 0};"
+        + "  var touch = function () { t.last = performance.now(); };"
+        + "  new MutationObserver(touch).observe(document,"
+        + "    {subtree: true, childList: true, attributes: true, characterData: true});"
+        + "  if (window.fetch) {"
+        + "    var originalFetch = window.fetch;"
+        + "    window.fetch = function () {"
+        + "      t.pending++;"
+        + "      return originalFetch.apply(this, arguments).finally(function () { t.pending--; touch(); });"
+        + "    };"
+        + "  }"
+        + "  var originalSend = XMLHttpRequest.prototype.send;"
+        + "  XMLHttpRequest.prototype.send = function () {"
+        + "    t.pending++;"
+        + "    this.addEventListener('loadend', function () { t.pending--; touch(); });"
+        + "    return originalSend.apply(this, arguments);"
+        + "  };"
+        + "}"
+        + "var state = window.__domSettle, start = performance.now();"
+        + "var animating = function () {"
+        + "  if (!document.getAnimations) { return false; }"
+        + "  return document.getAnimations().some(function (a) {"
+        + "    var timing = a.effect && a.effect.getComputedTiming();"
+        + "    return a.playState === 'running' && timing && isFinite(timing.endTime);"
+        + "  });"
+        + "};"
+        + "(function check() {"
+        + "  var now = performance.now();"
+        + "  var settled = document.readyState === 'complete' && state.pending <= 0"
+        + "    && now - state.last >= quietMs && !animating();"
+        + "  if (settled || now - start >= timeoutMs) { done(settled); return; }"
+        + "  setTimeout(check, 25);"
+        + "})();";
+
+    private static final int MAX_SCRIPT_ERRORS = 3;
+
+    private static final TimingStats settleStats = new TimingStats("dom settle");
+    private static final LongAdder reclaimedMillis = new LongAdder();
+    private static final LongAdder lostMillis = new LongAdder();
+    private static final LongAdder timeouts = new LongAdder();
+    // waits, waited ms, reclaimed ms, lost ms, timeouts
+    private static final ThreadLocal<long[]> testTotals = ThreadLocal.withInitial(() -> new long[5]);
+
+    private DomSettle() {
+    }
+
+    /**
+     * Wait until the page settles
+     * @param driver - WebDriver instance
+     * @return true if the page settled, false if the wait timed out or gave up
+     */
+    public static boolean waitForSettle(WebDriver driver) {
+        return waitForSettle(driver, 0);
+    }
+
+    /**
+     * Wait until the page settles, in place of a fixed sleep
+     * @param driver - WebDriver instance
+     * @param replacedSleepMillis - length of the sleep this wait replaces, used to report time reclaimed or lost
+     * @return true if the page settled, false if the wait timed out or gave up
+     */
+    public static boolean waitForSettle(WebDriver driver, long replacedSleepMillis) {
+        long quietMillis = Long.parseLong(ConfigReader.getProperty("dom.settle.quiet.ms", "200"));
+        long timeoutMillis = Long.parseLong(ConfigReader.getProperty("dom.settle.timeout.ms", "10000"));
+        WaitEvent event = new WaitEvent();
+        event.condition = "domSettle";
+        event.begin();
+        long start = System.nanoTime();
+        long deadline = start + timeoutMillis * 1_000_000L;
+        int scriptErrors = 0;
+        String gaveUp = null;
+
+        while (System.nanoTime() < deadline) {
+            try {
+                long remaining = (deadline - System.nanoTime()) / 1_000_000L;
+                Object settled = ((JavascriptExecutor) driver).executeAsyncScript(SETTLE_SCRIPT, quietMillis, remaining);
+                event.satisfied = Boolean.TRUE.equals(settled);
+                break;
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                // Document was replaced mid-wait (navigation); settle the new one, but not forever
+                if (++scriptErrors >= MAX_SCRIPT_ERRORS) {
+                    gaveUp = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage().split("\n")[0];
+                    break;
+                }
+                pause(50);
+            }
+        }
+
+        event.commit();
+        CommandLatencyRecorder.recordWait("domSettle", start);
+        long waited = settleStats.recordSince(start);
+        long reclaimed = Math.max(0, replacedSleepMillis - waited);
+        long lost = Math.max(0, waited - replacedSleepMillis);
+        reclaimedMillis.add(reclaimed);
+        lostMillis.add(lost);
+        long[] totals = testTotals.get();
+        totals[0]++;
+        totals[1] += waited;
+        totals[2] += reclaimed;
+        totals[3] += lost;
+        if (!event.satisfied) {
+            timeouts.increment();
+            totals[4]++;
+            System.out.println(gaveUp != null
+                ? "DOM settle gave up after " + scriptErrors + " script errors (" + waited + "ms): " + gaveUp
+                : "DOM settle timed out after " + waited + "ms (replaced a " + replacedSleepMillis + "ms sleep)");
+        }
+        return event.satisfied;
+    }
+
+    /**
+     * Reset the per-test totals of the current thread
+     */
+    public static void resetTestStats() {
+        testTotals.remove();
+    }
+
+    /**
+     * Summary of settle waits made by the current thread since the last reset
+     * @return summary, or null if no wait was made
+     */
+    public static String getTestSummary() {
+        long[] totals = testTotals.get();
+        if (totals[0] == 0) {
+            return null;
+        }
+        return String.format("DOM settle: %d waits (%d timed out), %dms waited, %dms reclaimed from fixed sleeps,"
+            + " %dms lost", totals[0], totals[4], totals[1], totals[2], totals[3]);
+    }
+
+    /**
+     * Summary of all settle waits in the run
+     */
+    public static String getSummary() {
+        return settleStats + ", " + timeouts.sum() + " timed out, reclaimed " + reclaimedMillis.sum()
+            + "ms from fixed sleeps, lost " + lostMillis.sum() + "ms";
+    }
+
+    private static void pause(long millis) {
+        SleepEvent event = new SleepEvent();
+        event.reason = "domSettleRetry";
+        event.requestedMillis = millis;
+        event.begin();
+        try {
+            Thread.sleep(millis);
+            CommandLatencyRecorder.recordSleep("domSettleRetry", millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.automation.datepicker;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.LocalDate;
+
+/**
+ * Date selection strategy for one calendar widget type. Engines are detected
+ * per page by DatePickerRegistry; each offers a fast path (widget JS API or
+ * input field) and a UI path that clicks through the calendar.
+ */
+public interface DatePicker {
+
+    /**
+     * Get engine name, e.g. "jquery-ui"
+     */
+    String getName();
+
+    /**
+     * Get the JavaScript expression that is true when this widget is on the page.
+     * The date field (or null) is available as f.
+     */
+    String getDetectionExpression();
+
+    /**
+     * Set the date without UI clicks, through the widget's JS API or input field
+     * @param driver - WebDriver instance
+     * @param field - date input or calendar trigger, may be null
+     * @param date - date to set
+     * @return true if the date was set, false if this page does not allow the fast path
+     */
+    boolean trySetDirectly(WebDriver driver, WebElement field, LocalDate date);
+
+    /**
+     * Select the date by clicking: open the calendar from the field (if given),
+     * navigate to the month and click the day
+     * @param driver - WebDriver instance
+     * @param field - date input or calendar trigger, null if the calendar is already open
+     * @param date - date to select
+     */
+    void selectByClicking(WebDriver driver, WebElement field, LocalDate date);
+}
@@ -0,0 +1,201 @@
+package com.automation.datepicker;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.TimingStats;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of calendar engines. The widget type is detected with one script
+ * call and cached on the date field (or on the window when there is no field),
+ * so pages with several kinds of date fields get the right engine for each. A
+ * cached engine is used only while its own detection expression still holds;
+ * otherwise, and on a new document, all engines are checked again.
+ *
+ * selectDate uses the engine's fast path when datepicker.fast.path=true
+ * (default) and the page allows it, and UI clicks otherwise.
+ */
+public class DatePickerRegistry {
+
+    /**
+     * Sets an input's value through the native setter (so React sees it) and fires
+     * input/change; arguments are (input, year, month, day, formatted date)
+     */
+    static final String INPUT_VALUE_SCRIPT =
+        "var input = arguments[0], text = arguments[4];"
+        + "if (!input || input.tagName !== 'INPUT' || input.readOnly || input.disabled) { return false; }"
+        + "var setter = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+        + "setter.call(input, text);"
+        + "input.dispatchEvent(new Event('input', {bubbles: true}));"
+        + "input.dispatchEvent(new Event('change', {bubbles: true}));"
+        + "return input.value === text;";
+
+    private static final String JQUERY_UI_SCRIPT =
+        "var input = arguments[0];"
+        + "if (!input || !window.jQuery || !jQuery.fn || !jQuery.fn.datepicker"
+        + "    || !jQuery(input).hasClass('hasDatepicker')) { return false; }"
+        + "var $input = jQuery(input);"
+        + "$input.datepicker('setDate', new Date(arguments[1], arguments[2] - 1, arguments[3]));"
+        + "var onSelect = $input.datepicker('option', 'onSelect');"
+        + "if (onSelect) { onSelect.call(input, $input.val(), $input.data('datepicker')); }"
+        + "$input.trigger('change');"
+        + "return true;";
+
+    private static final String BOOTSTRAP_SCRIPT =
+        "var input = arguments[0];"
+        + "if (!input || !window.jQuery || !jQuery(input).data('datepicker')) { return false; }"
+        + "jQuery(input).datepicker('setDate', new Date(arguments[1], arguments[2] - 1, arguments[3]));"
+        + "jQuery(input).datepicker('hide');"
+        + "return true;";
+
+    private static final String SPICEJET_PICKER = "//div[@data-testid= 'undefined-calendar-picker']";
+    private static final String JQUERY_UI_PICKER = "//div[@id='ui-datepicker-div']";
+    private static final String BOOTSTRAP_DAYS = "//div[contains(@class,'datepicker-days')]";
+
+    private static final List<DatePicker> engines = new CopyOnWriteArrayList<>();
+    private static final TimingStats fastPathStats = new TimingStats("date picker fast path");
+    private static final TimingStats clickPathStats = new TimingStats("date picker clicks");
+
+    private static final DatePicker GENERIC = new WidgetDatePicker("generic", "true",
+        "(//*[contains(@class,'next') or @aria-label='Next' or @aria-label='Next month'"
+            + " or normalize-space()='>' or normalize-space()='›'])[1]",
+        "(//*[contains(@class,'prev') or @aria-label='Previous' or @aria-label='Previous month'"
+            + " or normalize-space()='<' or normalize-space()='‹'])[1]",
+        date -> String.format("(//td[normalize-space()='%1$d' and not(contains(@class,'disabled'))"
+            + " and not(contains(@class,'off')) and not(contains(@class,'old')) and not(contains(@class,'new'))"
+            + " and not(contains(@class,'other-month'))] | //*[@role='gridcell' and normalize-space()='%1$d'])[1]",
+            date.getDayOfMonth()),
+        "//*[contains(@class,'current-month') or contains(@class,'month-year') or contains(@class,'title')"
+            + " or contains(@class,'switch')]",
+        "//*[contains(@class,'month') or contains(@class,'header')]");
+
+    static {
+        engines.add(new NativeDatePicker());
+
+        engines.add(new WidgetDatePicker("spicejet",
+            "!!document.querySelector(\"[data-testid='undefined-calendar-picker'],"
+                + " [data-testid='departure-date-dropdown-label-test-id']\")",
+            SPICEJET_PICKER + "/div[1]",
+            SPICEJET_PICKER + "/div[2]",
+            date -> String.format("//div[@data-testid='undefined-month-%s-%d']"
+                + "//div[@data-testid='undefined-calendar-day-%d' and not(contains(@class,'disabled'))]",
+                date.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH), date.getYear(), date.getDayOfMonth()),
+            SPICEJET_PICKER + "//div[contains(@class,'month-year')]",
+            SPICEJET_PICKER + "//*[text()]"));
+
+        engines.add(new WidgetDatePicker("jquery-ui",
+            "!!(document.getElementById('ui-datepicker-div') || document.querySelector('.hasDatepicker'))",
+            JQUERY_UI_PICKER + "//a[contains(@class,'ui-datepicker-next')]",
+            JQUERY_UI_PICKER + "//a[contains(@class,'ui-datepicker-prev')]",
+            date -> String.format(JQUERY_UI_PICKER + "//td[@data-handler='selectDay' and @data-month='%d'"
+                + " and @data-year='%d']/a[normalize-space()='%d']",
+                date.getMonthValue() - 1, date.getYear(), date.getDayOfMonth()),
+            JQUERY_UI_PICKER + "//div[contains(@class,'ui-datepicker-title')]")
+            .withFastPath(JQUERY_UI_SCRIPT, "MM/dd/yyyy"));
+
+        engines.add(new WidgetDatePicker("bootstrap",
+            "!!document.querySelector('.datepicker-days')"
+                + " || !!(f && window.jQuery && jQuery(f).data && jQuery(f).data('datepicker'))",
+            BOOTSTRAP_DAYS + "//th[contains(@class,'next')]",
+            BOOTSTRAP_DAYS + "//th[contains(@class,'prev')]",
+            date -> String.format(BOOTSTRAP_DAYS + "//td[contains(concat(' ', normalize-space(@class), ' '), ' day ')"
+                + " and not(contains(@class,'old')) and not(contains(@class,'new'))"
+                + " and not(contains(@class,'disabled')) and normalize-space()='%d']", date.getDayOfMonth()),
+            BOOTSTRAP_DAYS + "//th[contains(@class,'datepicker-switch')]")
+            .withFastPath(BOOTSTRAP_SCRIPT, "MM/dd/yyyy"));
+
+        engines.add(new WidgetDatePicker("react-datepicker",
+            "!!document.querySelector('.react-datepicker, .react-datepicker-wrapper')",
+            "//button[contains(@class,'react-datepicker__navigation--next')]",
+            "//button[contains(@class,'react-datepicker__navigation--previous')]",
+            date -> String.format("//div[contains(@class,'react-datepicker__day--%03d')"
+                + " and not(contains(@class,'react-datepicker__day--outside-month'))"
+                + " and not(contains(@class,'react-datepicker__day--disabled'))]", date.getDayOfMonth()),
+            "//div[contains(@class,'react-datepicker__current-month')]")
+            .withFastPath(INPUT_VALUE_SCRIPT, "MM/dd/yyyy"));
+    }
+
+    private DatePickerRegistry() {
+    }
+
+    /**
+     * Register a custom engine; it is checked before the built-in ones
+     */
+    public static void register(DatePicker engine) {
+        engines.add(0, engine);
+    }
+
+    /**
+     * Check if engines may set dates through their fast path (datepicker.fast.path)
+     */
+    public static boolean isFastPathEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("datepicker.fast.path", "true"));
+    }
+
+    /**
+     * Detect the calendar engine of the current page
+     * @param driver - WebDriver instance
+     * @param field - date field, may be null
+     * @return detected engine, or the generic engine if no known widget is on the page
+     */
+    public static DatePicker detect(WebDriver driver, WebElement field) {
+        Object name = ((JavascriptExecutor) driver).executeScript(buildDetectionScript(), field);
+        for (DatePicker engine : engines) {
+            if (engine.getName().equals(name)) {
+                return engine;
+            }
+        }
+        return GENERIC;
+    }
+
+    /**
+     * Select a date with the engine detected on the current page
+     * @param driver - WebDriver instance
+     * @param field - date input or calendar trigger, null if the calendar is already open
+     * @param date - date to select
+     */
+    public static void selectDate(WebDriver driver, WebElement field, LocalDate date) {
+        DatePicker engine = detect(driver, field);
+        long start = System.nanoTime();
+        if (isFastPathEnabled() && engine.trySetDirectly(driver, field, date)) {
+            fastPathStats.recordSince(start);
+            return;
+        }
+        engine.selectByClicking(driver, field, date);
+        clickPathStats.recordSince(start);
+    }
+
+    /**
+     * Summary of fast path and click path selections in the run
+     */
+    public static String getSummary() {
+        return fastPathStats + ", " + clickPathStats;
+    }
+
+    private static String buildDetectionScript() {
+        StringBuilder script = new StringBuilder("var f = arguments[0];"
+            + "var cache = f || window;"
+            + "var checks = [");
+        for (DatePicker engine : engines) {
+            script.append("['").append(engine.getName()).append("', function () { return ")
+                .append(engine.getDetectionExpression()).append("; }],");
+        }
+        return script.append("];"
+            + "function matches(check) { try { return !!check[1](); } catch (e) { return false; } }"
+            + "for (var i = 0; i < checks.length; i++) {"
+            + "  if (checks[i][0] === cache.__datePickerEngine && matches(checks[i])) { return checks[i][0]; }"
+            + "}"
+            + "for (var j = 0; j < checks.length; j++) {"
+            + "  if (matches(checks[j])) { return cache.__datePickerEngine = checks[j][0]; }"
+            + "}"
+            + "cache.__datePickerEngine = null;"
+            + "return null;").toString();
+    }
+}
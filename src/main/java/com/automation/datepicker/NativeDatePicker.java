@@ -0,0 +1,48 @@
+package com.automation.datepicker;
+
+import com.automation.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * HTML5 input[type=date]. The browser's own calendar is not part of the DOM,
+ * so the UI path types the date in the browser's locale order
+ * (datepicker.native.keys.format, MMddyyyy for en-US) and the fast path sets
+ * the ISO value directly.
+ */
+public class NativeDatePicker implements DatePicker {
+
+    @Override
+    public String getName() {
+        return "native";
+    }
+
+    @Override
+    public String getDetectionExpression() {
+        return "!!f && f.tagName === 'INPUT' && f.type === 'date'";
+    }
+
+    @Override
+    public boolean trySetDirectly(WebDriver driver, WebElement field, LocalDate date) {
+        if (field == null) {
+            return false;
+        }
+        Object applied = ((JavascriptExecutor) driver).executeScript(DatePickerRegistry.INPUT_VALUE_SCRIPT,
+            field, date.getYear(), date.getMonthValue(), date.getDayOfMonth(), date.toString());
+        return Boolean.TRUE.equals(applied);
+    }
+
+    @Override
+    public void selectByClicking(WebDriver driver, WebElement field, LocalDate date) {
+        if (field == null) {
+            throw new RuntimeException("A native date input needs the input element");
+        }
+        String pattern = ConfigReader.getProperty("datepicker.native.keys.format", "MMddyyyy");
+        field.click();
+        field.sendKeys(date.format(DateTimeFormatter.ofPattern(pattern)));
+    }
+}
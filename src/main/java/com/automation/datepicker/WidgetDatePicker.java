@@ -0,0 +1,120 @@
+package com.automation.datepicker;
+
+import com.automation.base.DomSettle;
+import com.automation.jfr.WaitEvent;
+import com.automation.utils.CalendarNavigator;
+import com.automation.utils.CommandLatencyRecorder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Date picker for month-by-month calendar widgets, described by xpaths for the
+ * month header, the arrows and the day cells. The fast path is an optional
+ * script run with (field, year, month, day, formatted date) that returns true
+ * once it has set the date.
+ */
+public class WidgetDatePicker implements DatePicker {
+
+    private final String name;
+    private final String detectionExpression;
+    private final String nextArrowXpath;
+    private final String previousArrowXpath;
+    private final Function<LocalDate, String> dayXpath;
+    private final String[] headerXpaths;
+    private String fastPathScript;
+    private DateTimeFormatter inputFormat;
+
+    /**
+     * @param name - engine name
+     * @param detectionExpression - JS expression that is true when the widget is on the page
+     * @param nextArrowXpath - xpath of the next month arrow
+     * @param previousArrowXpath - xpath of the previous month arrow
+     * @param dayXpath - xpath of the day cell for a date (once its month is displayed)
+     * @param headerXpaths - xpaths of the displayed month title, tried in order
+     */
+    public WidgetDatePicker(String name, String detectionExpression, String nextArrowXpath,
+                            String previousArrowXpath, Function<LocalDate, String> dayXpath,
+                            String... headerXpaths) {
+        this.name = name;
+        this.detectionExpression = detectionExpression;
+        this.nextArrowXpath = nextArrowXpath;
+        this.previousArrowXpath = previousArrowXpath;
+        this.dayXpath = dayXpath;
+        this.headerXpaths = headerXpaths;
+    }
+
+    /**
+     * Add a fast path script
+     * @param script - script returning true once the date is set
+     * @param inputPattern - pattern of the formatted date passed as fifth argument
+     * @return this picker
+     */
+    public WidgetDatePicker withFastPath(String script, String inputPattern) {
+        this.fastPathScript = script;
+        this.inputFormat = DateTimeFormatter.ofPattern(inputPattern);
+        return this;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDetectionExpression() {
+        return detectionExpression;
+    }
+
+    @Override
+    public boolean trySetDirectly(WebDriver driver, WebElement field, LocalDate date) {
+        if (fastPathScript == null || field == null) {
+            return false;
+        }
+        Object applied = ((JavascriptExecutor) driver).executeScript(fastPathScript, field,
+            date.getYear(), date.getMonthValue(), date.getDayOfMonth(), date.format(inputFormat));
+        return Boolean.TRUE.equals(applied);
+    }
+
+    @Override
+    public void selectByClicking(WebDriver driver, WebElement field, LocalDate date) {
+        if (field != null) {
+            field.click();
+            DomSettle.waitForSettle(driver);
+        }
+
+        YearMonth month = YearMonth.from(date);
+        CalendarNavigator navigator = new CalendarNavigator(driver, nextArrowXpath, previousArrowXpath, headerXpaths)
+            .withLocatorCache(WidgetDatePicker.class, name + " month header");
+        if (!navigator.navigateTo(month)) {
+            throw new RuntimeException(name + " calendar could not be moved to " + month);
+        }
+
+        String xpath = dayXpath.apply(date);
+        WaitEvent event = new WaitEvent();
+        event.condition = "calendarDay";
+        event.begin();
+        long start = System.nanoTime();
+        WebElement day;
+        try {
+            day = new WebDriverWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
+            event.satisfied = true;
+        } catch (Exception e) {
+            throw new RuntimeException(name + " calendar has no selectable day " + date + ": " + xpath, e);
+        } finally {
+            CommandLatencyRecorder.recordWait("calendarDay", start);
+            event.commit();
+        }
+        day.click();
+    }
+}
@@ -0,0 +1,23 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Launch of a new browser session (DriverManager.createDriver)
+ */
+@Name("com.automation.DriverSession")
+@Label("Driver Session Creation")
+@Category({"Automation", "Driver"})
+@Description("Time to launch a browser and create its WebDriver session")
+public class DriverSessionEvent extends Event {
+
+    @Label("Browser")
+    public String browser;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,29 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Lookup of a logical element through a list of locator strategies
+ */
+@Name("com.automation.LocatorResolution")
+@Label("Locator Resolution")
+@Category({"Automation", "Locators"})
+@Description("Lookup of a logical element by trying locator strategies in order")
+public class LocatorResolutionEvent extends Event {
+
+    @Label("Element")
+    public String element;
+
+    @Label("Winning Strategy")
+    public String strategy;
+
+    @Label("Strategies Tried")
+    public int strategiesTried;
+
+    @Label("Found")
+    public boolean found;
+}
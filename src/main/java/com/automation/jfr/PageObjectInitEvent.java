@@ -0,0 +1,20 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Page object construction (PageFactory.initElements in BasePage)
+ */
+@Name("com.automation.PageObjectInit")
+@Label("Page Object Construction")
+@Category({"Automation", "Page Objects"})
+@Description("Time spent in PageFactory.initElements for a page object")
+public class PageObjectInitEvent extends Event {
+
+    @Label("Page Class")
+    public Class<?> pageClass;
+}
@@ -0,0 +1,20 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Extent report flush (ExtentManager.flushReport)
+ */
+@Name("com.automation.ReportFlush")
+@Label("Report Flush")
+@Category({"Automation", "Reporting"})
+@Description("Time to write the Extent report to disk")
+public class ReportFlushEvent extends Event {
+
+    @Label("Report Path")
+    public String reportPath;
+}
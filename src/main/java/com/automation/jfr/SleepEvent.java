@@ -0,0 +1,25 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Fixed sleep in framework code
+ */
+@Name("com.automation.Sleep")
+@Label("Sleep")
+@Category({"Automation", "Waits"})
+@Description("Fixed Thread.sleep in framework code")
+public class SleepEvent extends Event {
+
+    @Label("Reason")
+    public String reason;
+
+    @Label("Requested")
+    @Timespan(Timespan.MILLISECONDS)
+    public long requestedMillis;
+}
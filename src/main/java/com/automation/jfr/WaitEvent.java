@@ -0,0 +1,23 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Explicit wait for a page or element condition
+ */
+@Name("com.automation.Wait")
+@Label("Explicit Wait")
+@Category({"Automation", "Waits"})
+@Description("Explicit wait for a condition (DOM settle, visibility, clickability)")
+public class WaitEvent extends Event {
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Satisfied")
+    public boolean satisfied;
+}
@@ -0,0 +1,65 @@
+package com.automation.listeners;
+
+import com.automation.utils.BrowserCapacity;
+import com.automation.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Applies the parallel execution settings from config.properties to the suite:
+ * parallel.tests, parallel.mode (methods, classes, tests, instances),
+ * thread.count and parallel.data.providers. Thread counts are capped by the
+ * number of browsers this machine can run at once (see BrowserCapacity).
+ *
+ * Register in testng.xml (annotation transformers cannot be added with @Listeners).
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener, IAnnotationTransformer {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int maxBrowsers = BrowserCapacity.getMaxBrowsers();
+
+        for (XmlSuite suite : suites) {
+            if (isParallelEnabled()) {
+                int threads = Math.min(Integer.parseInt(ConfigReader.getProperty("thread.count", "3")), maxBrowsers);
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(
+                    ConfigReader.getProperty("parallel.mode", "methods")));
+                suite.setThreadCount(threads);
+                suite.setDataProviderThreadCount(threads);
+                System.out.println("Parallel execution: suite '" + suite.getName() + "' mode="
+                    + suite.getParallel() + ", threads=" + threads);
+            }
+
+            // Never let a suite or test ask for more threads than browsers we can run
+            if (suite.getThreadCount() > maxBrowsers) {
+                suite.setThreadCount(maxBrowsers);
+            }
+            if (suite.getDataProviderThreadCount() > maxBrowsers) {
+                suite.setDataProviderThreadCount(maxBrowsers);
+            }
+            for (XmlTest test : suite.getTests()) {
+                if (test.getThreadCount() > maxBrowsers) {
+                    test.setThreadCount(maxBrowsers);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        if (isParallelEnabled()
+                && Boolean.parseBoolean(ConfigReader.getProperty("parallel.data.providers", "false"))) {
+            annotation.setParallel(true);
+        }
+    }
+
+    private boolean isParallelEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("parallel.tests", "false"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.automation.listeners;
+
+import com.automation.utils.DriverManager;
+import com.automation.utils.ExtentManager;
+import com.automation.utils.ScreenshotCapture;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Attaches a screenshot (screenshot.on.failure) and the page source
+ * (page.source.on.failure) to the report when a test method fails. Runs right
+ * after the test method, before
+ * @AfterMethod releases the browser; only the capture itself happens on the
+ * test thread, see ScreenshotCapture.
+ *
+ * Register in testng.xml.
+ */
+public class ScreenshotListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        if (ScreenshotCapture.isOnFailureEnabled()) {
+            ScreenshotCapture.capture("Failed: " + testResult.getMethod().getMethodName());
+        }
+        if (ScreenshotCapture.isPageSourceOnFailureEnabled()) {
+            ScreenshotCapture.capturePageSource(DriverManager.getCurrentDriver(), ExtentManager.getCurrentTest());
+        }
+    }
+}
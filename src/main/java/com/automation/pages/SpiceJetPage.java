@@ -9,6 +9,8 @@ import java.time.LocalDate;
 import java.util.*;
 
 import com.automation.base.BasePage;
+import com.automation.base.DomSettle;
+import com.automation.utils.ElementTextExtractor;
 import com.automation.utils.SpiceJetCalendarUtils;
 
 public class SpiceJetPage extends BasePage {
@@ -104,8 +106,8 @@ public class SpiceJetPage extends BasePage {
     public SpiceJetPage selectOriginByText(String cityName) {
         clickOriginField();
         try {
-            // Wait a moment for dropdown to appear
-            Thread.sleep(1000);
+            // Wait for dropdown to render
+            DomSettle.waitForSettle(driver, 1000);
             
             // Find city by visible text
             String cityXpath = "//*[contains(text(),'" + cityName + "')]";
@@ -144,8 +146,8 @@ public class SpiceJetPage extends BasePage {
     public SpiceJetPage selectDestinationByText(String cityName) {
         clickDestinationField();
         try {
-            // Wait a moment for dropdown to appear
-            Thread.sleep(1000);
+            // Wait for dropdown to render
+            DomSettle.waitForSettle(driver, 1000);
             
             // Find city by visible text with multiple strategies
             WebElement cityElement = findCityByText(cityName);
@@ -424,18 +426,11 @@ public class SpiceJetPage extends BasePage {
         
         try {
             clickOriginField();
-            Thread.sleep(1000);
+            DomSettle.waitForSettle(driver, 1000);
             
-            // Find all city elements
-            List<WebElement> cityElements = driver.findElements(
-                By.xpath("//div[@data-testid='to-testID-origin']//descendant::*[contains(text(),'" + searchText + "')]"));
-            
-            for (WebElement element : cityElements) {
-                String cityText = element.getText().trim();
-                if (!cityText.isEmpty()) {
-                    cities.add(cityText);
-                }
-            }
+            // Read all matching city texts in one call
+            cities.addAll(ElementTextExtractor.getTexts(driver,
+                By.xpath("//div[@data-testid='to-testID-origin']//descendant::*[contains(text(),'" + searchText + "')]")));
         } catch (Exception e) {
             System.out.println("Failed to get available cities: " + e.getMessage());
         }
@@ -453,18 +448,11 @@ public class SpiceJetPage extends BasePage {
         
         try {
             clickDestinationField();
-            Thread.sleep(1000);
-            
-            // Find all city elements
-            List<WebElement> cityElements = driver.findElements(
-                By.xpath("//div[@data-testid='to-testID-destination']//descendant::*[contains(text(),'" + searchText + "')]"));
+            DomSettle.waitForSettle(driver, 1000);
             
-            for (WebElement element : cityElements) {
-                String cityText = element.getText().trim();
-                if (!cityText.isEmpty()) {
-                    cities.add(cityText);
-                }
-            }
+            // Read all matching city texts in one call
+            cities.addAll(ElementTextExtractor.getTexts(driver,
+                By.xpath("//div[@data-testid='to-testID-destination']//descendant::*[contains(text(),'" + searchText + "')]")));
         } catch (Exception e) {
             System.out.println("Failed to get available cities: " + e.getMessage());
         }
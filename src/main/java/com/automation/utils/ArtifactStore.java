@@ -0,0 +1,291 @@
+package com.automation.utils;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed store for report artifacts (screenshots, page sources)
+ * under artifact.store.dir, default test-output/artifacts. Each artifact is
+ * saved once as &lt;first two hex digits&gt;/&lt;sha256&gt;.&lt;ext&gt;, so the
+ * report links to it by hash and repeated content costs no disk space, also
+ * across runs sharing the directory. With artifact.image.max.distance set
+ * (default -1: exact matches only), images are also indexed by a 64-bit
+ * difference hash. A screenshot within that many bits of an earlier one from
+ * the same report test (method invocation or data-provider row) reuses it;
+ * one close to another test's image is still stored, since the hash misses
+ * small changes such as an error message, and only labelled as similar.
+ */
+public class ArtifactStore {
+
+    private static final List<ImageEntry> images = new ArrayList<>();
+    private static final LongAdder stored = new LongAdder();
+    private static final LongAdder storedBytes = new LongAdder();
+    private static final LongAdder exactDuplicates = new LongAdder();
+    private static final LongAdder similarImages = new LongAdder();
+    private static final LongAdder savedBytes = new LongAdder();
+
+    private ArtifactStore() {
+    }
+
+    /**
+     * Store content unless an artifact with the same SHA-256 already exists
+     * @param content - artifact bytes
+     * @param extension - file extension without the dot
+     * @return stored or existing artifact
+     */
+    public static Artifact put(byte[] content, String extension) throws IOException {
+        String hash = sha256(content);
+        Path dir = getRoot().resolve(hash.substring(0, 2));
+        Path file = dir.resolve(hash + "." + extension);
+        Artifact artifact = new Artifact(hash, file, content.length);
+        if (Files.exists(file)) {
+            reused(artifact);
+            return artifact;
+        }
+
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, hash, ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file);
+            }
+        } catch (FileAlreadyExistsException e) {
+            reused(artifact); // Another thread stored the same content first
+            return artifact;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        stored.increment();
+        storedBytes.add(content.length);
+        return artifact;
+    }
+
+    /**
+     * Count an artifact used again instead of storing identical content once more
+     */
+    public static void reused(Artifact artifact) {
+        exactDuplicates.increment();
+        savedBytes.add(artifact.getSize());
+    }
+
+    /**
+     * Check if near-duplicate images are detected (artifact.image.max.distance >= 0)
+     */
+    public static boolean isSimilarImageEnabled() {
+        return getMaxDistance() >= 0;
+    }
+
+    /**
+     * Find an image of the same test that looks like this one, or claim the
+     * hash for an image about to be stored so similar frames of that test
+     * captured meanwhile wait for it
+     * @param differenceHash - see differenceHash(BufferedImage)
+     * @param testId - report test the image belongs to
+     * @param claim - completed by the caller with the stored image unless a match of the same test is returned
+     * @return closest image within artifact.image.max.distance bits, preferring the same test, or null
+     */
+    public static ImageMatch findOrClaimImage(long differenceHash, int testId, CompletableFuture<Artifact> claim) {
+        int maxDistance = getMaxDistance();
+        synchronized (images) {
+            ImageEntry sameTest = null;
+            ImageEntry otherTest = null;
+            int sameDistance = maxDistance + 1;
+            int otherDistance = maxDistance + 1;
+            for (ImageEntry entry : images) {
+                int distance = Long.bitCount(entry.differenceHash ^ differenceHash);
+                if (entry.testId == testId && distance < sameDistance) {
+                    sameTest = entry;
+                    sameDistance = distance;
+                } else if (entry.testId != testId && distance < otherDistance) {
+                    otherTest = entry;
+                    otherDistance = distance;
+                }
+            }
+            if (sameTest != null) {
+                return new ImageMatch(sameTest.artifact, true);
+            }
+            images.add(new ImageEntry(differenceHash, testId, claim));
+            return otherTest != null ? new ImageMatch(otherTest.artifact, false) : null;
+        }
+    }
+
+    /**
+     * Give up a claim from findOrClaimImage after the image could not be stored
+     */
+    public static void releaseImage(CompletableFuture<Artifact> claim) {
+        synchronized (images) {
+            images.removeIf(entry -> entry.artifact == claim);
+        }
+    }
+
+    /**
+     * Count an image replaced by a similar stored one of the same test
+     */
+    public static void reusedSimilar(Artifact artifact) {
+        similarImages.increment();
+        savedBytes.add(artifact.getSize());
+    }
+
+    private static int getMaxDistance() {
+        return Integer.parseInt(ConfigReader.getProperty("artifact.image.max.distance", "-1"));
+    }
+
+    /**
+     * 64-bit difference hash: the image is averaged down to 9x8 grey cells and
+     * each bit tells whether a cell is brighter than its right neighbour, so
+     * re-encoding, scaling and small changes flip few bits
+     */
+    public static long differenceHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        long[] sums = new long[72];
+        int[] counts = new int[72];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = y * 8 / height * 9;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int cell = cellRow + x * 9 / width;
+                // Integer luma (0.299 R + 0.587 G + 0.114 B)
+                sums[cell] += (((rgb >> 16) & 0xff) * 299 + ((rgb >> 8) & 0xff) * 587 + (rgb & 0xff) * 114) / 1000;
+                counts[cell]++;
+            }
+        }
+        long hash = 0;
+        for (int cellY = 0; cellY < 8; cellY++) {
+            for (int cellX = 0; cellX < 8; cellX++) {
+                int left = cellY * 9 + cellX;
+                hash <<= 1;
+                if (sums[left] * counts[left + 1] > sums[left + 1] * counts[left]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Stored, duplicate and saved totals since the run started
+     */
+    public static String getSummary() {
+        return String.format("Artifacts - %d stored (%dKB), %d exact duplicates, %d similar images, %dKB saved",
+            stored.sum(), storedBytes.sum() / 1024, exactDuplicates.sum(), similarImages.sum(),
+            savedBytes.sum() / 1024);
+    }
+
+    private static Path getRoot() {
+        return Paths.get(ConfigReader.getProperty("artifact.store.dir", "test-output/artifacts/"));
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A stored artifact
+     */
+    public static class Artifact {
+        private final String hash;
+        private final Path file;
+        private final long size;
+
+        Artifact(String hash, Path file, long size) {
+            this.hash = hash;
+            this.file = file;
+            this.size = size;
+        }
+
+        /**
+         * SHA-256 of the content, hex encoded
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Path to link from the report: relative to the report when possible,
+         * so the output folder can be moved or uploaded as a whole
+         */
+        public String getReportPath() {
+            Path absolute = file.toAbsolutePath().normalize();
+            String reportPath = ExtentManager.getReportPath();
+            if (reportPath == null) {
+                return absolute.toString();
+            }
+            try {
+                Path reportDir = Paths.get(reportPath).toAbsolutePath().getParent();
+                return reportDir.relativize(absolute).toString().replace('\\', '/');
+            } catch (IllegalArgumentException e) {
+                return absolute.toString(); // Different drive on Windows
+            }
+        }
+    }
+
+    /**
+     * Image found by findOrClaimImage; only a match of the same test may replace the new one
+     */
+    public static class ImageMatch {
+        private final CompletableFuture<Artifact> artifact;
+        private final boolean sameTest;
+
+        ImageMatch(CompletableFuture<Artifact> artifact, boolean sameTest) {
+            this.artifact = artifact;
+            this.sameTest = sameTest;
+        }
+
+        /**
+         * Matched image, waiting for it if it is still being stored
+         */
+        public Artifact getArtifact() {
+            return artifact.join();
+        }
+
+        public boolean isSameTest() {
+            return sameTest;
+        }
+    }
+
+    private static class ImageEntry {
+        final long differenceHash;
+        final int testId;
+        final CompletableFuture<Artifact> artifact;
+
+        ImageEntry(long differenceHash, int testId, CompletableFuture<Artifact> artifact) {
+            this.differenceHash = differenceHash;
+            this.testId = testId;
+            this.artifact = artifact;
+        }
+    }
+}
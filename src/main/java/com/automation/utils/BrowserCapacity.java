@@ -0,0 +1,117 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrently running browsers by available CPU and memory,
+ * so raising thread.count on a small machine queues tests instead of thrashing.
+ */
+public class BrowserCapacity {
+
+    private static volatile Semaphore slots;
+    private static volatile int maxBrowsers;
+    private static final Set<WebDriver> holders = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Maximum number of browsers that may run at once on this machine:
+     * min(parallel.max.browsers, cores / parallel.cpu.per.browser,
+     *     physical memory / parallel.memory.per.browser.mb)
+     */
+    public static int getMaxBrowsers() {
+        if (maxBrowsers == 0) {
+            synchronized (BrowserCapacity.class) {
+                if (maxBrowsers == 0) {
+                    maxBrowsers = computeMaxBrowsers();
+                    slots = new Semaphore(maxBrowsers, true);
+                }
+            }
+        }
+        return maxBrowsers;
+    }
+
+    private static int computeMaxBrowsers() {
+        int configured = Integer.parseInt(ConfigReader.getProperty("parallel.max.browsers", "0"));
+        double cpuPerBrowser = Double.parseDouble(ConfigReader.getProperty("parallel.cpu.per.browser", "1"));
+        long memoryPerBrowserMb = Long.parseLong(ConfigReader.getProperty("parallel.memory.per.browser.mb", "512"));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int cpuCap = Math.max(1, (int) (cores / cpuPerBrowser));
+
+        int memoryCap = Integer.MAX_VALUE;
+        long physicalMb = getPhysicalMemoryMb();
+        if (physicalMb > 0 && memoryPerBrowserMb > 0) {
+            // Leave a quarter of the machine for the JVM, the OS and driver processes
+            memoryCap = Math.max(1, (int) (physicalMb * 3 / 4 / memoryPerBrowserMb));
+        }
+
+        int cap = Math.min(cpuCap, memoryCap);
+        if (configured > 0) {
+            cap = Math.min(cap, configured);
+        }
+        System.out.println("Browser capacity: " + cap + " (cores=" + cores + ", cpuCap=" + cpuCap
+            + ", memoryMb=" + physicalMb + ", memoryCap=" + (memoryCap == Integer.MAX_VALUE ? "n/a" : memoryCap) + ")");
+        return cap;
+    }
+
+    private static long getPhysicalMemoryMb() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getTotalPhysicalMemorySize() / (1024L * 1024L);
+        }
+        return -1;
+    }
+
+    /**
+     * Block until a browser slot is free
+     */
+    static void acquire(String browserName) {
+        getMaxBrowsers();
+        long timeoutSeconds = Long.parseLong(ConfigReader.getProperty("driver.pool.lease.timeout", "120"));
+        try {
+            if (!slots.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Timed out after " + timeoutSeconds + "s waiting for a free "
+                    + browserName + " slot (capacity " + maxBrowsers + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a browser slot", e);
+        }
+    }
+
+    /**
+     * Attach an acquired slot to the driver that now occupies it
+     */
+    static void bind(WebDriver webDriver) {
+        holders.add(webDriver);
+    }
+
+    /**
+     * Give back an acquired slot that was never bound to a driver
+     */
+    static void cancel() {
+        slots.release();
+    }
+
+    /**
+     * Free the slot held by the given driver (no-op if it holds none)
+     */
+    static void release(WebDriver webDriver) {
+        if (webDriver != null && holders.remove(webDriver)) {
+            slots.release();
+        }
+    }
+
+    /**
+     * Number of browsers currently running
+     */
+    public static int getRunningBrowsers() {
+        return holders.size();
+    }
+}
@@ -0,0 +1,131 @@
+package com.automation.utils;
+
+import java.time.Month;
+import java.time.YearMonth;
+
+/**
+ * Allocation-free parser for calendar header texts such as "October 2026",
+ * "OCT 2026", "Sa, 24 Oct 2026" or "October&nbsp;2026".
+ *
+ * The text is scanned char by char against precomputed month name tables; runs
+ * of letters and runs of digits are tokens, anything else separates them. The
+ * first month name (full, three letters or "Sept", any case) and the first four
+ * digit number are used. Results for years 1900-2199 come from a shared table,
+ * so parsing a header allocates nothing.
+ */
+public final class CalendarHeaderParser {
+
+    private static final Month[] MONTHS = Month.values();
+    private static final char[][] FULL_NAMES = new char[12][];
+    private static final char[] SEPT = {'s', 'e', 'p', 't'};
+
+    private static final int FIRST_CACHED_YEAR = 1900;
+    private static final YearMonth[] CACHE = new YearMonth[300 * 12];
+
+    static {
+        for (Month month : MONTHS) {
+            FULL_NAMES[month.ordinal()] = month.name().toLowerCase().toCharArray();
+        }
+    }
+
+    private CalendarHeaderParser() {
+    }
+
+    /**
+     * Parse the month and year of a calendar header
+     * @param text - header text
+     * @return month, or null if the text has no month name and four digit year
+     */
+    public static YearMonth parse(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        Month month = null;
+        int year = -1;
+        int length = text.length();
+        int i = 0;
+        while (i < length && (month == null || year < 0)) {
+            char c = text.charAt(i);
+            if (isLetter(c)) {
+                int end = i + 1;
+                while (end < length && isLetter(text.charAt(end))) {
+                    end++;
+                }
+                if (month == null) {
+                    month = matchMonth(text, i, end);
+                }
+                i = end;
+            } else if (c >= '0' && c <= '9') {
+                int end = i;
+                int value = 0;
+                while (end < length && text.charAt(end) >= '0' && text.charAt(end) <= '9') {
+                    value = end - i < 4 ? value * 10 + (text.charAt(end) - '0') : value;
+                    end++;
+                }
+                if (year < 0 && end - i == 4 && value > 0) {
+                    year = value;
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return month != null && year > 0 ? of(year, month) : null;
+    }
+
+    /**
+     * Parse a month name as passed to the calendar utilities ("JANUARY", "January", "Jan")
+     * @param name - month name
+     * @return month
+     * @throws IllegalArgumentException if the name is not a month
+     */
+    public static Month parseMonth(CharSequence name) {
+        Month month = name == null ? null : matchMonth(name, 0, name.length());
+        if (month == null) {
+            throw new IllegalArgumentException("Not a month name: " + name);
+        }
+        return month;
+    }
+
+    private static Month matchMonth(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length < 3) {
+            return null;
+        }
+        for (int m = 0; m < 12; m++) {
+            char[] name = FULL_NAMES[m];
+            if ((length == 3 || length == name.length) && regionMatches(text, start, name, length)) {
+                return MONTHS[m];
+            }
+        }
+        return length == 4 && regionMatches(text, start, SEPT, 4) ? Month.SEPTEMBER : null;
+    }
+
+    private static boolean regionMatches(CharSequence text, int start, char[] lowerName, int length) {
+        for (int k = 0; k < length; k++) {
+            // ASCII letters only, so setting bit 0x20 lower-cases them
+            if ((text.charAt(start + k) | 0x20) != lowerName[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static YearMonth of(int year, Month month) {
+        int index = (year - FIRST_CACHED_YEAR) * 12 + month.ordinal();
+        if (index < 0 || index >= CACHE.length) {
+            return YearMonth.of(year, month);
+        }
+        YearMonth cached = CACHE[index];
+        if (cached == null) {
+            // Benign race: YearMonth is immutable, so threads may at worst create duplicates
+            cached = YearMonth.of(year, month);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+}
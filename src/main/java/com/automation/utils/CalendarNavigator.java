@@ -0,0 +1,142 @@
+package com.automation.utils;
+
+import com.automation.base.DomSettle;
+import com.automation.jfr.LocatorResolutionEvent;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Moves a month-by-month calendar widget to a target month. The displayed
+ * month is read once, the month delta is computed with YearMonth, all arrow
+ * clicks are issued in one script call and the header is verified once at the
+ * end. Another round only runs if the widget swallowed some clicks; some widgets
+ * take a single click per script call, so rounds go on as long as each one
+ * brings the calendar closer, at most one per month of the initial delta.
+ */
+public class CalendarNavigator {
+
+    private static final String CLICK_SCRIPT =
+        "var xpath = arguments[0], count = arguments[1], clicked = 0;"
+        + "for (; clicked < count; clicked++) {"
+        + "  var arrow = document.evaluate(xpath, document, null,"
+        + "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "  if (!arrow) { break; }"
+        + "  arrow.dispatchEvent(new MouseEvent('click', {bubbles: true, cancelable: true, view: window}));"
+        + "}"
+        + "return clicked;";
+
+    private final WebDriver driver;
+    private final String nextArrowXpath;
+    private final String previousArrowXpath;
+    private final String[] headerXpaths;
+    private Class<?> cachePage;
+    private String cacheElement;
+
+    /**
+     * @param driver - WebDriver instance
+     * @param nextArrowXpath - xpath of the next month arrow
+     * @param previousArrowXpath - xpath of the previous month arrow
+     * @param headerXpaths - xpaths of the displayed month title, tried in order; the
+     *                       first element whose text holds a month and year is used
+     */
+    public CalendarNavigator(WebDriver driver, String nextArrowXpath, String previousArrowXpath,
+                             String... headerXpaths) {
+        this.driver = driver;
+        this.nextArrowXpath = nextArrowXpath;
+        this.previousArrowXpath = previousArrowXpath;
+        this.headerXpaths = headerXpaths;
+    }
+
+    /**
+     * Rank the header xpaths with LocatorStrategyCache, so the one that matched
+     * before is read first
+     * @param page - page or component class that owns the calendar
+     * @param element - logical element name of the header
+     * @return this navigator
+     */
+    public CalendarNavigator withLocatorCache(Class<?> page, String element) {
+        this.cachePage = page;
+        this.cacheElement = element;
+        return this;
+    }
+
+    /**
+     * Navigate so the target month is the first month displayed
+     * @param target - target month
+     * @return true if the calendar shows the target month afterwards
+     */
+    public boolean navigateTo(YearMonth target) {
+        YearMonth displayed = getDisplayedMonth();
+        long previousDelta = Long.MAX_VALUE;
+        long maxRounds = displayed == null ? 0 : Math.abs(displayed.until(target, ChronoUnit.MONTHS)) + 1;
+
+        for (long round = 0; displayed != null; round++) {
+            long delta = displayed.until(target, ChronoUnit.MONTHS);
+            if (delta == 0) {
+                return true;
+            }
+            if (round == maxRounds || Math.abs(delta) >= Math.abs(previousDelta)) {
+                break; // Last batch did not move the calendar (arrow disabled or missing)
+            }
+            previousDelta = delta;
+
+            String arrow = delta > 0 ? nextArrowXpath : previousArrowXpath;
+            ((JavascriptExecutor) driver).executeScript(CLICK_SCRIPT, arrow, Math.abs(delta));
+            DomSettle.waitForSettle(driver);
+            displayed = getDisplayedMonth();
+        }
+
+        System.out.println(displayed == null ? "Could not read the month displayed by the calendar"
+            : "Calendar shows " + displayed + " instead of " + target);
+        return false;
+    }
+
+    /**
+     * Get the month currently displayed by the calendar
+     * @return displayed month, or null if no header text could be parsed
+     */
+    public YearMonth getDisplayedMonth() {
+        LocatorResolutionEvent event = new LocatorResolutionEvent();
+        event.element = cacheElement != null ? cacheElement : "calendar month header";
+        event.begin();
+        List<String> ordered = cachePage == null ? Arrays.asList(headerXpaths)
+            : LocatorStrategyCache.rank(cachePage, cacheElement, Arrays.asList(headerXpaths), xpath -> xpath);
+        for (int i = 0; i < ordered.size(); i++) {
+            for (String text : ElementTextExtractor.getTexts(driver, By.xpath(ordered.get(i)))) {
+                YearMonth month = parseMonthYear(text);
+                if (month != null) {
+                    recordHeaderLookup(event, ordered.subList(0, i + 1), ordered.get(i));
+                    return month;
+                }
+            }
+        }
+        recordHeaderLookup(event, ordered, null);
+        return null;
+    }
+
+    private void recordHeaderLookup(LocatorResolutionEvent event, List<String> tried, String winner) {
+        event.strategy = winner;
+        event.strategiesTried = tried.size();
+        event.found = winner != null;
+        event.commit();
+        if (cachePage != null) {
+            LocatorStrategyCache.recordLookup(cachePage, cacheElement, tried, winner);
+        }
+    }
+
+    /**
+     * Parse a calendar header such as "October 2026", "OCT 2026" or "October&nbsp;2026"
+     * @param text - header text
+     * @return month, or null if the text has no month name and four digit year
+     * @see CalendarHeaderParser#parse(CharSequence)
+     */
+    public static YearMonth parseMonthYear(String text) {
+        return CalendarHeaderParser.parse(text);
+    }
+}
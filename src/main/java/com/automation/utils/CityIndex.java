@@ -0,0 +1,324 @@
+package com.automation.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory index of the cities a dropdown offers, built once from the scraped
+ * option texts or from the bundled airport catalog (airports.csv). Entries are
+ * indexed by IATA code, lower-cased name (sorted, for prefix search) and name
+ * trigrams, so user input resolves to the exact option text without touching
+ * the browser.
+ */
+public class CityIndex {
+
+    private static final String CATALOG = "/airports.csv";
+    private static final double MIN_SIMILARITY = 0.4;
+    private static volatile List<City> catalog;
+
+    private final List<City> cities;
+    private final Map<String, City> byCode = new HashMap<>();
+    private final Map<String, City> byName = new HashMap<>();
+    private final String[] sortedNames;
+    private final City[] sortedCities;
+    private final Map<String, int[]> byTrigram = new HashMap<>();
+
+    private CityIndex(List<City> cities) {
+        this.cities = Collections.unmodifiableList(cities);
+        for (City city : cities) {
+            if (city.code != null) {
+                byCode.putIfAbsent(city.code, city);
+            }
+            byName.putIfAbsent(city.key, city);
+        }
+
+        Integer[] order = new Integer[cities.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> cities.get(a).key.compareTo(cities.get(b).key));
+        sortedNames = new String[order.length];
+        sortedCities = new City[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedCities[i] = cities.get(order[i]);
+            sortedNames[i] = sortedCities[i].key;
+        }
+
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < cities.size(); i++) {
+            for (String trigram : trigrams(cities.get(i).key, true)) {
+                List<Integer> ids = postings.computeIfAbsent(trigram, k -> new ArrayList<>());
+                if (ids.isEmpty() || ids.get(ids.size() - 1) != i) {
+                    ids.add(i);
+                }
+            }
+        }
+        for (Map.Entry<String, List<Integer>> entry : postings.entrySet()) {
+            byTrigram.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Index the bundled airport catalog; option texts are the city names
+     */
+    public static CityIndex fromCatalog() {
+        return new CityIndex(new ArrayList<>(getCatalog()));
+    }
+
+    /**
+     * Index option texts scraped from a dropdown. Texts that are bare IATA codes
+     * or catalog city names are linked to their city, so a code resolves to a
+     * clickable text even when the dropdown shows it in a separate element.
+     * @param optionTexts - visible option texts, UI labels already filtered out
+     */
+    public static CityIndex fromOptionTexts(List<String> optionTexts) {
+        Map<String, City> catalogByName = new HashMap<>();
+        Map<String, City> catalogByCode = new HashMap<>();
+        for (City city : getCatalog()) {
+            catalogByName.put(city.key, city);
+            catalogByCode.put(city.code, city);
+        }
+
+        Map<String, City> cities = new LinkedHashMap<>();
+        List<String> codes = new ArrayList<>();
+        for (String text : optionTexts) {
+            String trimmed = text.trim();
+            if (isCode(trimmed)) {
+                codes.add(trimmed);
+                continue;
+            }
+            City known = catalogByName.get(trimmed.toLowerCase(Locale.ROOT));
+            cities.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), known != null
+                ? new City(known.code, trimmed, known.airport, trimmed)
+                : new City(null, trimmed, null, trimmed));
+        }
+        // Codes shown without a known city name stay clickable by their own text
+        for (String code : codes) {
+            City known = catalogByCode.get(code);
+            if (known == null || !cities.containsKey(known.key)) {
+                cities.putIfAbsent(code.toLowerCase(Locale.ROOT), new City(code,
+                    known != null ? known.name : code, known != null ? known.airport : null, code));
+            }
+        }
+        return new CityIndex(new ArrayList<>(cities.values()));
+    }
+
+    /**
+     * Resolve user input to a city: IATA code, exact name, name prefix,
+     * substring, then closest name by trigram similarity
+     * @param input - city name, partial name or airport code
+     * @return city, or null if nothing is similar enough
+     */
+    public City resolve(String input) {
+        if (input == null || input.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = input.trim();
+        if (trimmed.length() == 3) {
+            City city = byCode.get(trimmed.toUpperCase(Locale.ROOT));
+            if (city != null) {
+                return city;
+            }
+        }
+        String key = trimmed.toLowerCase(Locale.ROOT);
+        City city = byName.get(key);
+        if (city != null) {
+            return city;
+        }
+
+        int at = Arrays.binarySearch(sortedNames, key);
+        int insertion = at >= 0 ? at : -at - 1;
+        if (insertion < sortedNames.length && sortedNames[insertion].startsWith(key)) {
+            return sortedCities[insertion];
+        }
+
+        List<String> inner = trigrams(key, false);
+        if (inner.isEmpty()) {
+            // One or two characters: too short for trigrams, and the list is small
+            for (City candidate : cities) {
+                if (candidate.key.contains(key)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        // A substring shares all of its unpadded trigrams with the name
+        int[] sharedInner = countShared(inner);
+        for (int i = 0; i < sharedInner.length; i++) {
+            if (sharedInner[i] == inner.size() && cities.get(i).key.contains(key)) {
+                return cities.get(i);
+            }
+        }
+
+        List<String> grams = trigrams(key, true);
+        int[] shared = countShared(grams);
+        City best = null;
+        double bestScore = 0;
+        for (int i = 0; i < shared.length; i++) {
+            // Dice coefficient of the two trigram sets
+            double score = 2.0 * shared[i] / (grams.size() + cities.get(i).trigramCount);
+            if (score > bestScore) {
+                best = cities.get(i);
+                bestScore = score;
+            }
+        }
+        return bestScore >= MIN_SIMILARITY ? best : null;
+    }
+
+    /**
+     * Look up a city by IATA code only
+     * @param code - three letter airport code
+     * @return city, or null if the code is not indexed
+     */
+    public City byCode(String code) {
+        return code == null ? null : byCode.get(code.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Indexed cities in option order
+     */
+    public List<City> getCities() {
+        return cities;
+    }
+
+    public int size() {
+        return cities.size();
+    }
+
+    private int[] countShared(List<String> grams) {
+        int[] shared = new int[cities.size()];
+        for (String gram : grams) {
+            int[] ids = byTrigram.get(gram);
+            if (ids != null) {
+                for (int id : ids) {
+                    shared[id]++;
+                }
+            }
+        }
+        return shared;
+    }
+
+    private static boolean isCode(String text) {
+        if (text.length() != 3) {
+            return false;
+        }
+        for (int i = 0; i < 3; i++) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Distinct trigrams of a lower-cased name; padding makes short names and
+     * word edges count ("goa" -> " go", "goa", "oa ")
+     */
+    private static List<String> trigrams(String key, boolean padded) {
+        List<String> grams = new ArrayList<>();
+        String text = padded ? " " + key + " " : key;
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            String gram = text.substring(i, i + 3);
+            if (!grams.contains(gram)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static List<City> getCatalog() {
+        List<City> current = catalog;
+        if (current == null) {
+            synchronized (CityIndex.class) {
+                if (catalog == null) {
+                    catalog = loadCatalog();
+                }
+                current = catalog;
+            }
+        }
+        return current;
+    }
+
+    private static List<City> loadCatalog() {
+        List<City> cities = new ArrayList<>();
+        try (InputStream in = CityIndex.class.getResourceAsStream(CATALOG)) {
+            if (in == null) {
+                throw new RuntimeException("Airport catalog not found on the classpath: " + CATALOG);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", 3);
+                cities.add(new City(fields[0].trim(), fields[1].trim(), fields.length > 2 ? fields[2].trim() : null,
+                    fields[1].trim()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read airport catalog: " + e.getMessage(), e);
+        }
+        return Collections.unmodifiableList(cities);
+    }
+
+    /**
+     * One indexed city and the option text to click for it
+     */
+    public static class City {
+        private final String code;
+        private final String name;
+        private final String airport;
+        private final String optionText;
+        private final String key;
+        private final int trigramCount;
+
+        City(String code, String name, String airport, String optionText) {
+            this.code = code;
+            this.name = name;
+            this.airport = airport;
+            this.optionText = optionText;
+            this.key = optionText.toLowerCase(Locale.ROOT);
+            this.trigramCount = trigrams(key, true).size();
+        }
+
+        /**
+         * IATA code, or null if the option text is not a known city
+         */
+        public String getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getAirport() {
+            return airport;
+        }
+
+        /**
+         * Exact text of the dropdown option to click
+         */
+        public String getOptionText() {
+            return optionText;
+        }
+
+        @Override
+        public String toString() {
+            return code != null ? name + " (" + code + ")" : name;
+        }
+    }
+}
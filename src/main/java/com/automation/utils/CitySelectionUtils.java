@@ -1,19 +1,107 @@
 package com.automation.utils;
 
+import com.automation.base.DomSettle;
+import com.automation.jfr.LocatorResolutionEvent;
+import com.automation.jfr.SleepEvent;
+import com.automation.jfr.WaitEvent;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Utility class for handling dynamic city selection based on visible text
  */
 public class CitySelectionUtils {
     
+    /**
+     * Evaluates the strategy xpaths in order and returns [element, strategy index]
+     * for the first one that matches; invalid xpaths (e.g. a quote in the city
+     * name) are skipped like a failed findElement
+     */
+    private static final String MATCH_SCRIPT =
+        "var xpaths = arguments[0];"
+        + "for (var i = 0; i < xpaths.length; i++) {"
+        + "  try {"
+        + "    var node = document.evaluate(xpaths[i], document, null,"
+        + "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "    if (node && node.nodeType === 1) { return [node, i]; }"
+        + "  } catch (e) {}"
+        + "}"
+        + "return null;";
+    
+    /**
+     * Resolves with the number of qualifying city entries once it reaches the
+     * minimum or the timeout passes, re-counting on every DOM mutation; -1 for an
+     * invalid xpath
+     */
+    private static final String CITIES_LOADED_SCRIPT =
+        "var xpath = arguments[0], min = arguments[1], timeoutMs = arguments[2], keywords = arguments[3];"
+        + "var done = arguments[arguments.length - 1], finished = false, observer, timer;"
+        + "var isCity = function (el) {"
+        + "  if (el.getClientRects().length === 0 || getComputedStyle(el).visibility === 'hidden') { return false; }"
+        + "  var text = (el.innerText || '').trim();"
+        + "  if (text.length <= 2 || /^[0-9]+$/.test(text)) { return false; }"
+        + "  var lower = text.toLowerCase();"
+        + "  for (var k = 0; k < keywords.length; k++) { if (lower.indexOf(keywords[k]) >= 0) { return false; } }"
+        + "  return true;"
+        + "};"
+        + "var count = function () {"
+        + "  var found;"
+        + "  try {"
+        + "    found = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+        + "  } catch (e) { return -1; }"
+        + "  var cities = 0;"
+        + "  for (var i = 0; i < found.snapshotLength; i++) { if (isCity(found.snapshotItem(i))) { cities++; } }"
+        + "  return cities;"
+        + "};"
+        + "var finish = function (result) {"
+        + "  if (finished) { return; }"
+        + "  finished = true;"
+        + "  if (observer) { observer.disconnect(); }"
+        + "  clearTimeout(timer);"
+        + "  done(result);"
+        + "};"
+        + "var check = function () {"
+        + "  var cities = count();"
+        + "  if (cities < 0 || cities >= min) { finish(cities); }"
+        + "};"
+        + "check();"
+        + "if (!finished) {"
+        + "  observer = new MutationObserver(check);"
+        + "  observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});"
+        + "  timer = setTimeout(function () { finish(count()); }, timeoutMs);"
+        + "}";
+    
+    private static final String CITY_ELEMENT = "city option";
+    // Observations restarted because navigation replaced the document, before giving up
+    private static final int MAX_NAVIGATION_RETRIES = 3;
+    
+    // Texts containing any of these are dropdown chrome, not cities (city.ui.keywords overrides)
+    static final String DEFAULT_UI_KEYWORDS = "select,choose,search,from,to,departure,arrival,"
+        + "date,calendar,book,flight,passenger,adult,child,infant,class,economy,business,first,"
+        + "submit,next,previous,close,cancel,ok,yes,no,apply,clear";
+    
+    private static volatile UIKeywords uiKeywords;
+    
+    // City indexes per driver session, keyed by container and page URL, scraped on first use
+    private static final Map<WebDriver, Map<String, CityIndex>> cityIndexes =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile CityIndex catalogIndex;
+    
     private WebDriver driver;
     private WebDriverWait wait;
     
@@ -49,76 +137,133 @@ public class CitySelectionUtils {
      * @return WebElement of the city or null if not found
      */
     public WebElement findCityElementByText(String cityName, String containerXpath) {
-        String searchContainer = (containerXpath != null && !containerXpath.isEmpty()) ? containerXpath : "";
+        CityMatch match = findCityMatch(cityName, containerXpath);
+        return match != null ? match.getElement() : null;
+    }
+    
+    /**
+     * Find city element by text, running every strategy inside the page in a
+     * single WebDriver call (same priority order as the per-strategy lookups)
+     * @param cityName - city name to find
+     * @param containerXpath - container xpath to limit search scope
+     * @return winning element and strategy, or null if no strategy matched
+     */
+    public CityMatch findCityMatch(String cityName, String containerXpath) {
+        LocatorResolutionEvent event = new LocatorResolutionEvent();
+        event.element = CITY_ELEMENT + " " + cityName;
+        event.begin();
+        List<String[]> strategies = rankStrategies(buildStrategies(cityName, containerXpath));
+        List<String> xpaths = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String[] strategy : strategies) {
+            xpaths.add(strategy[1]);
+            names.add(strategy[0]);
+        }
         
-        // Strategy 1: Exact text match
+        Object result = ((JavascriptExecutor) driver).executeScript(MATCH_SCRIPT, xpaths);
+        if (!(result instanceof List)) {
+            event.strategiesTried = names.size();
+            event.commit();
+            LocatorStrategyCache.recordLookup(CitySelectionUtils.class, CITY_ELEMENT, names, null);
+            return null;
+        }
+        List<?> match = (List<?>) result;
+        int index = ((Number) match.get(1)).intValue();
+        event.strategy = names.get(index);
+        event.strategiesTried = index + 1;
+        event.found = true;
+        event.commit();
+        LocatorStrategyCache.recordLookup(CitySelectionUtils.class, CITY_ELEMENT,
+            names.subList(0, index + 1), names.get(index));
+        return new CityMatch((WebElement) match.get(0), strategies.get(index)[0]);
+    }
+    
+    /**
+     * Order the strategies by what found cities before (LocatorStrategyCache).
+     * Exact text always goes first: the fuzzy strategies also match other
+     * cities containing the name ("New Delhi" for "Delhi"), so they are only
+     * reordered among themselves, and partial text stays the last resort.
+     */
+    private List<String[]> rankStrategies(List<String[]> strategies) {
+        return LocatorStrategyCache.rank(CitySelectionUtils.class, CITY_ELEMENT, strategies,
+            strategy -> strategy[0], strategy -> "exact text".equals(strategy[0]) ? 0
+                : "partial text".equals(strategy[0]) ? 2 : 1);
+    }
+    
+    /**
+     * Find city element by text with one findElement call per strategy in the
+     * default order. Kept for comparison in CityMatcherBenchmark; every miss costs
+     * a round trip plus the implicit wait.
+     * @param cityName - city name to find
+     * @param containerXpath - container xpath to limit search scope
+     * @return WebElement of the city or null if not found
+     */
+    public WebElement findCityElementByTextSequential(String cityName, String containerXpath) {
+        LocatorResolutionEvent event = new LocatorResolutionEvent();
+        event.element = CITY_ELEMENT + " " + cityName;
+        event.begin();
         try {
-            String xpath = searchContainer + "//*[text()='" + cityName + "']";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
+            for (String[] strategy : buildStrategies(cityName, containerXpath)) {
+                event.strategiesTried++;
+                try {
+                    WebElement element = driver.findElement(By.xpath(strategy[1]));
+                    event.strategy = strategy[0];
+                    event.found = true;
+                    return element;
+                } catch (Exception e) {
+                    // Continue to next strategy
+                }
+            }
+            return null; // Return null if no strategy worked
+        } finally {
+            event.commit();
         }
+    }
+    
+    /**
+     * Build the lookup strategies in priority order
+     * @return pairs of strategy name and xpath
+     */
+    private List<String[]> buildStrategies(String cityName, String containerXpath) {
+        String searchContainer = (containerXpath != null && !containerXpath.isEmpty()) ? containerXpath : "";
+        List<String[]> strategies = new ArrayList<>();
+        
+        // Strategy 1: Exact text match
+        strategies.add(new String[] {"exact text",
+            searchContainer + "//*[text()='" + cityName + "']"});
         
         // Strategy 2: Contains text match
-        try {
-            String xpath = searchContainer + "//*[contains(text(),'" + cityName + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"contains text",
+            searchContainer + "//*[contains(text(),'" + cityName + "')]"});
         
         // Strategy 3: Case insensitive match
-        try {
-            String xpath = searchContainer + "//*[contains(translate(text(),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'" + cityName.toLowerCase() + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"case insensitive",
+            searchContainer + "//*[contains(translate(text(),'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'" + cityName.toLowerCase() + "')]"});
         
         // Strategy 4: Starts with match
-        try {
-            String xpath = searchContainer + "//*[starts-with(text(),'" + cityName + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"starts with",
+            searchContainer + "//*[starts-with(text(),'" + cityName + "')]"});
         
         // Strategy 5: Partial match (first 3 characters)
         if (cityName.length() >= 3) {
-            try {
-                String partialName = cityName.substring(0, 3);
-                String xpath = searchContainer + "//*[contains(text(),'" + partialName + "')]";
-                return driver.findElement(By.xpath(xpath));
-            } catch (Exception e) {
-                // Continue to next strategy
-            }
+            String partialName = cityName.substring(0, 3);
+            strategies.add(new String[] {"partial text",
+                searchContainer + "//*[contains(text(),'" + partialName + "')]"});
         }
         
         // Strategy 6: Search by aria-label or title attributes
-        try {
-            String xpath = searchContainer + "//*[@aria-label='" + cityName + "' or @title='" + cityName + "' or contains(@aria-label,'" + cityName + "') or contains(@title,'" + cityName + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"aria-label/title",
+            searchContainer + "//*[@aria-label='" + cityName + "' or @title='" + cityName + "' or contains(@aria-label,'" + cityName + "') or contains(@title,'" + cityName + "')]"});
         
         // Strategy 7: Search by data attributes (common in modern web apps)
-        try {
-            String xpath = searchContainer + "//*[@data-city='" + cityName + "' or @data-name='" + cityName + "' or contains(@data-city,'" + cityName + "') or contains(@data-name,'" + cityName + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"data attribute",
+            searchContainer + "//*[@data-city='" + cityName + "' or @data-name='" + cityName + "' or contains(@data-city,'" + cityName + "') or contains(@data-name,'" + cityName + "')]"});
         
         // Strategy 8: Search within clickable elements only
-        try {
-            String xpath = searchContainer + "//a[contains(text(),'" + cityName + "')] | " + searchContainer + "//button[contains(text(),'" + cityName + "')] | " + searchContainer + "//div[@role='option' and contains(text(),'" + cityName + "')]";
-            return driver.findElement(By.xpath(xpath));
-        } catch (Exception e) {
-            // Continue to next strategy
-        }
+        strategies.add(new String[] {"clickable element",
+            searchContainer + "//a[contains(text(),'" + cityName + "')] | " + searchContainer + "//button[contains(text(),'" + cityName + "')] | " + searchContainer + "//div[@role='option' and contains(text(),'" + cityName + "')]"});
         
-        return null; // Return null if no strategy worked
+        return strategies;
     }
     
     /**
@@ -132,11 +277,9 @@ public class CitySelectionUtils {
         try {
             // Find all text elements within the container
             String xpath = containerXpath + "//*[text() and string-length(text()) > 2]";
-            List<WebElement> elements = driver.findElements(By.xpath(xpath));
             
-            for (WebElement element : elements) {
-                String text = element.getText().trim();
-                if (!text.isEmpty() && text.length() > 2) {
+            for (String text : ElementTextExtractor.getTexts(driver, By.xpath(xpath))) {
+                if (text.length() > 2) {
                     // Filter out common UI elements
                     if (!isUIElement(text)) {
                         cities.add(text);
@@ -161,11 +304,9 @@ public class CitySelectionUtils {
         
         try {
             String xpath = containerXpath + "//*[contains(text(),'" + searchPattern + "')]";
-            List<WebElement> elements = driver.findElements(By.xpath(xpath));
             
-            for (WebElement element : elements) {
-                String text = element.getText().trim();
-                if (!text.isEmpty() && !isUIElement(text)) {
+            for (String text : ElementTextExtractor.getTexts(driver, By.xpath(xpath))) {
+                if (!isUIElement(text)) {
                     matchingCities.add(text);
                 }
             }
@@ -187,36 +328,116 @@ public class CitySelectionUtils {
     }
     
     /**
-     * Get the closest matching city name
-     * @param inputCity - input city name
+     * Get the closest matching city name (code, exact name, prefix, substring,
+     * then nearest spelling) from the city index
+     * @param inputCity - input city name or airport code
      * @param containerXpath - container xpath to search within
-     * @return closest matching city name or null
+     * @return option text of the closest matching city or null
      */
     public String getClosestMatchingCity(String inputCity, String containerXpath) {
-        List<String> availableCities = getAllAvailableCities(containerXpath);
-        
-        // Exact match
-        for (String city : availableCities) {
-            if (city.equalsIgnoreCase(inputCity)) {
-                return city;
+        CityIndex.City city = getCityIndex(containerXpath).resolve(inputCity);
+        if (isScrapedIndex() && (city == null || !isOptionPresent(city.getOptionText(), containerXpath))) {
+            // The dropdown changed since it was scraped (e.g. destinations after an origin was picked)
+            clearCityIndex(containerXpath);
+            city = getCityIndex(containerXpath).resolve(inputCity);
+        }
+        return city != null ? city.getOptionText() : null;
+    }
+    
+    /**
+     * Get the city index of a dropdown. With city.index.source=page (default) the
+     * dropdown is scraped once per driver session and page URL, and forgotten
+     * when the session is reset or released; with city.index.source=catalog
+     * the bundled airport catalog is used and nothing is scraped.
+     * @param containerXpath - container xpath of the dropdown
+     * @return city index, empty if the dropdown has no cities yet
+     */
+    public CityIndex getCityIndex(String containerXpath) {
+        if (!isScrapedIndex()) {
+            CityIndex index = catalogIndex;
+            if (index == null) {
+                index = CityIndex.fromCatalog();
+                catalogIndex = index;
             }
+            return index;
         }
-        
-        // Contains match
-        for (String city : availableCities) {
-            if (city.toLowerCase().contains(inputCity.toLowerCase())) {
-                return city;
+        String key = indexKey(containerXpath);
+        Map<String, CityIndex> indexes;
+        synchronized (cityIndexes) {
+            indexes = cityIndexes.computeIfAbsent(driver, d -> new HashMap<>());
+        }
+        synchronized (indexes) {
+            CityIndex index = indexes.get(key);
+            if (index == null) {
+                index = CityIndex.fromOptionTexts(getAllAvailableCities(containerXpath));
+                if (index.size() > 0) {
+                    // An empty dropdown is still loading, so it is scraped again next time
+                    indexes.put(key, index);
+                }
             }
+            return index;
         }
-        
-        // Starts with match
-        for (String city : availableCities) {
-            if (city.toLowerCase().startsWith(inputCity.toLowerCase())) {
-                return city;
+    }
+    
+    /**
+     * Forget this session's scraped city index of a dropdown on the current page
+     * @param containerXpath - container xpath of the dropdown
+     */
+    public void clearCityIndex(String containerXpath) {
+        synchronized (cityIndexes) {
+            Map<String, CityIndex> indexes = cityIndexes.get(driver);
+            if (indexes != null) {
+                synchronized (indexes) {
+                    indexes.remove(indexKey(containerXpath));
+                }
             }
         }
-        
-        return null; // No match found
+    }
+
+    /**
+     * Forget every city index scraped with a session; called when the session
+     * is reset or released, so the next test or pool lease scrapes again
+     * @param webDriver - driver session
+     */
+    public static void clearCityIndexes(WebDriver webDriver) {
+        if (webDriver != null) {
+            cityIndexes.remove(webDriver);
+        }
+    }
+
+    private boolean isScrapedIndex() {
+        return !"catalog".equalsIgnoreCase(ConfigReader.getProperty("city.index.source", "page"));
+    }
+
+    private String indexKey(String containerXpath) {
+        String url;
+        try {
+            url = driver.getCurrentUrl();
+        } catch (WebDriverException e) {
+            url = "";
+        }
+        return (containerXpath != null ? containerXpath : "") + " @ " + url;
+    }
+
+    /**
+     * Check without waiting that the dropdown shows an option with exactly this text
+     */
+    private boolean isOptionPresent(String optionText, String containerXpath) {
+        try {
+            Object count = ((JavascriptExecutor) driver).executeScript(
+                "return document.evaluate(arguments[0], document, null,"
+                    + " XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;",
+                optionXpath(optionText, containerXpath));
+            return count instanceof Number && ((Number) count).intValue() > 0;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static String optionXpath(String optionText, String containerXpath) {
+        String literal = optionText.contains("'") ? "\"" + optionText + "\"" : "'" + optionText + "'";
+        String container = containerXpath != null ? containerXpath : "";
+        return container + "//*[normalize-space(text())=" + literal + "]";
     }
     
     /**
@@ -236,12 +457,8 @@ public class CitySelectionUtils {
                 lastException = e;
                 System.out.println("Attempt " + (i + 1) + " failed for city: " + cityName + " - " + e.getMessage());
                 
-                // Wait before retry
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
+                // Let the dropdown settle before retrying
+                DomSettle.waitForSettle(driver, 1000);
             }
         }
         
@@ -254,70 +471,158 @@ public class CitySelectionUtils {
      * @param text - text to check
      * @return true if it's a UI element
      */
-    private boolean isUIElement(String text) {
-        String lowerText = text.toLowerCase();
-        
-        // Common UI elements to filter out
-        String[] uiElements = {
-            "select", "choose", "search", "from", "to", "departure", "arrival",
-            "date", "calendar", "book", "flight", "passenger", "adult", "child",
-            "infant", "class", "economy", "business", "first", "submit", "next",
-            "previous", "close", "cancel", "ok", "yes", "no", "apply", "clear"
-        };
-        
-        for (String uiElement : uiElements) {
-            if (lowerText.equals(uiElement) || lowerText.contains(uiElement)) {
-                return true;
-            }
-        }
-        
-        // Check for numbers only
-        if (text.matches("\\d+")) {
+    static boolean isUIElement(String text) {
+        // Single characters and numbers only
+        if (text.length() == 1 || isDigits(text)) {
             return true;
         }
-        
-        // Check for single characters
-        if (text.length() == 1) {
-            return true;
+        return getUIKeywords().containsAny(text);
+    }
+
+    /**
+     * Matcher for the UI keywords filtered out of city lists (city.ui.keywords),
+     * rebuilt only when the configured list changes
+     */
+    static KeywordMatcher getUIKeywords() {
+        String keywords = ConfigReader.getProperty("city.ui.keywords", DEFAULT_UI_KEYWORDS);
+        UIKeywords current = uiKeywords;
+        if (current == null || !current.source.equals(keywords)) {
+            current = new UIKeywords(keywords, KeywordMatcher.parse(keywords));
+            uiKeywords = current;
+        }
+        return current.matcher;
+    }
+
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class UIKeywords {
+        private final String source;
+        private final KeywordMatcher matcher;
+
+        UIKeywords(String source, KeywordMatcher matcher) {
+            this.source = source;
+            this.matcher = matcher;
         }
-        
-        return false;
     }
     
     /**
-     * Wait for dropdown to be populated with cities
+     * Wait for dropdown to be populated with cities. A MutationObserver in the
+     * page recounts the qualifying entries (visible, longer than two characters,
+     * not a UI label) on every DOM change and answers as soon as there are
+     * enough, so the wait is one async script call with no polling. If navigation
+     * replaces the document mid-wait the new one is observed after a short pause
+     * (up to three times); any other driver error is rethrown.
      * @param containerXpath - container xpath
      * @param minCityCount - minimum expected city count
      * @param timeoutSeconds - timeout in seconds
      */
     public void waitForCitiesToLoad(String containerXpath, int minCityCount, int timeoutSeconds) {
-        long startTime = System.currentTimeMillis();
-        long timeoutMillis = timeoutSeconds * 1000;
+        String xpath = containerXpath + "//*[text() and string-length(text()) > 2]";
+        List<String> keywords = new ArrayList<>();
+        for (String keyword : getUIKeywords().getKeywords()) {
+            keywords.add(keyword.toLowerCase());
+        }
+        WaitEvent event = new WaitEvent();
+        event.condition = "citiesLoaded";
+        event.begin();
+        long start = System.nanoTime();
+        long deadline = start + timeoutSeconds * 1_000_000_000L;
+        long found = 0;
+        int navigations = 0;
         
-        while (System.currentTimeMillis() - startTime < timeoutMillis) {
-            List<String> cities = getAllAvailableCities(containerXpath);
-            if (cities.size() >= minCityCount) {
-                return; // Cities loaded successfully
-            }
-            
-            try {
-                Thread.sleep(500); // Wait 500ms before next check
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+        try {
+            while (System.nanoTime() < deadline) {
+                long remaining = (deadline - System.nanoTime()) / 1_000_000L;
+                try {
+                    Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                        CITIES_LOADED_SCRIPT, xpath, minCityCount, remaining, keywords);
+                    found = result instanceof Number ? ((Number) result).longValue() : 0;
+                    if (found < 0) {
+                        throw new RuntimeException("Invalid city container xpath: " + containerXpath);
+                    }
+                    break; // Enough cities, or the in-page timeout passed
+                } catch (ScriptTimeoutException e) {
+                    // Driver script timeout is shorter than ours; observe again
+                } catch (WebDriverException e) {
+                    if (!isDocumentReplaced(e) || ++navigations > MAX_NAVIGATION_RETRIES) {
+                        throw e;
+                    }
+                    // Document was replaced mid-wait (navigation); observe the new one once it exists
+                    pause(50);
+                }
             }
+        } finally {
+            event.satisfied = found >= minCityCount;
+            event.commit();
+            CommandLatencyRecorder.recordWait("citiesLoaded", start);
         }
         
-        throw new RuntimeException("Cities did not load within " + timeoutSeconds + " seconds");
+        if (found < minCityCount) {
+            throw new RuntimeException("Cities did not load within " + timeoutSeconds + " seconds (found "
+                + found + " of " + minCityCount + ")");
+        }
+    }
+    
+    /**
+     * Check if a script failed because its document went away: the page
+     * navigated or reloaded while the script ran, or an element it used is stale
+     */
+    private static boolean isDocumentReplaced(WebDriverException e) {
+        if (e instanceof StaleElementReferenceException) {
+            return true;
+        }
+        String message = e.getMessage() == null ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+        return message.contains("unloaded") // Chrome "document unloaded while waiting", Firefox "Document was unloaded"
+            || message.contains("execution context was destroyed")
+            || message.contains("cannot find context with specified id")
+            || message.contains("inspected target navigated or closed");
+    }
+    
+    private static void pause(long millis) {
+        SleepEvent event = new SleepEvent();
+        event.reason = "citiesLoadedRetry";
+        event.requestedMillis = millis;
+        event.begin();
+        try {
+            Thread.sleep(millis);
+            CommandLatencyRecorder.recordSleep("citiesLoadedRetry", millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            event.commit();
+        }
     }
     
     /**
-     * Select city by airport code if available, fallback to city name
+     * Select city by airport code if available, fallback to city name. Both are
+     * resolved to the exact option text through the city index, so only one
+     * targeted click is made; the live strategies are only used if it misses.
      * @param cityName - city name
      * @param airportCode - airport code (e.g., "DEL", "BOM")
      * @param containerXpath - container xpath
      */
     public void selectCityByCodeOrName(String cityName, String airportCode, String containerXpath) {
+        CityIndex index = getCityIndex(containerXpath);
+        CityIndex.City city = index.byCode(airportCode);
+        if (city == null) {
+            city = index.resolve(cityName);
+        }
+        if (city != null && clickOption(city.getOptionText(), containerXpath)) {
+            return;
+        }
+        // Index is stale or the dropdown changed: scrape again next time
+        clearCityIndex(containerXpath);
         try {
             // Try airport code first
             selectCityByText(airportCode, containerXpath);
@@ -326,4 +631,41 @@ public class CitySelectionUtils {
             selectCityByText(cityName, containerXpath);
         }
     }
+    
+    /**
+     * Click the option with exactly this text
+     * @return true if the option was found and clicked
+     */
+    private boolean clickOption(String optionText, String containerXpath) {
+        try {
+            WebElement option = driver.findElement(By.xpath(optionXpath(optionText, containerXpath)));
+            wait.until(ExpectedConditions.elementToBeClickable(option));
+            option.click();
+            return true;
+        } catch (Exception e) {
+            System.out.println("City option '" + optionText + "' not clickable: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * City element found by findCityMatch and the strategy that found it
+     */
+    public static class CityMatch {
+        private final WebElement element;
+        private final String strategy;
+        
+        CityMatch(WebElement element, String strategy) {
+            this.element = element;
+            this.strategy = strategy;
+        }
+        
+        public WebElement getElement() {
+            return element;
+        }
+        
+        public String getStrategy() {
+            return strategy;
+        }
+    }
 }
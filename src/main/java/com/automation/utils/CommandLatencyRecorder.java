@@ -0,0 +1,382 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of every WebDriver command (driver, element, navigation,
+ * options...) through an EventFiringDecorator, plus explicit waits and sleeps
+ * reported with {@link #recordWait} and {@link #recordSleep}.
+ *
+ * Latencies go into fixed-bucket histograms per command, kept per thread and per
+ * test method. At suite end they are written to
+ * test-output/command-latency_&lt;timestamp&gt;.json and added to the System/Environment
+ * section of the Extent report.
+ * Enabled with command.timings.enabled (default true).
+ */
+public class CommandLatencyRecorder {
+
+    /** Upper bounds of the histogram buckets in milliseconds; the last bucket is unbounded */
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+    private static final String OUTSIDE_TESTS = "(outside tests)";
+    /** Slowest entries of each kind listed in the report; the JSON file has all of them */
+    private static final int REPORT_ROWS = 15;
+
+    private static final Map<String, Map<String, Histogram>> byTest = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> byThread = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Long>> callStarts = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final LatencyListener listener = new LatencyListener();
+
+    private CommandLatencyRecorder() {
+    }
+
+    /**
+     * Check if command latencies are recorded (command.timings.enabled, default true)
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("command.timings.enabled", "true"));
+    }
+
+    /**
+     * Wrap a driver so every command it runs is timed (returns the driver unchanged when disabled)
+     * @param webDriver - driver to instrument
+     * @return decorated driver
+     */
+    public static WebDriver instrument(WebDriver webDriver) {
+        if (!isEnabled()) {
+            return webDriver;
+        }
+        return new EventFiringDecorator<>(listener).decorate(webDriver);
+    }
+
+    /**
+     * Attribute the current thread's commands to a test method from now on
+     * @param testName - test name, e.g. "LoginTest.testValidLogin"
+     */
+    public static void startTest(String testName) {
+        currentTest.set(testName);
+    }
+
+    /**
+     * Stop attributing the current thread's commands to its test
+     * @return one-line summary of the test's commands, waits and sleeps, or null if it ran none
+     */
+    public static String endTest() {
+        String testName = currentTest.get();
+        currentTest.remove();
+        Map<String, Histogram> recorded = testName == null ? null : byTest.get(testName);
+        if (recorded == null || recorded.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Histogram> commands = select(recorded, Kind.COMMAND);
+        StringBuilder summary = new StringBuilder(String.format("Driver commands: %d calls, %.0fms",
+            count(commands), totalMillis(commands)));
+        List<Map.Entry<String, Histogram>> sorted = sortByTotal(commands);
+        if (!sorted.isEmpty()) {
+            summary.append("; slowest:");
+            for (int i = 0; i < Math.min(3, sorted.size()); i++) {
+                Histogram histogram = sorted.get(i).getValue();
+                summary.append(String.format(" %s %dx %.0fms,", sorted.get(i).getKey(), histogram.count.sum(),
+                    histogram.getTotalMillis()));
+            }
+            summary.setLength(summary.length() - 1);
+        }
+        // Waits poll with driver commands, so their time overlaps the command total
+        Map<String, Histogram> waits = select(recorded, Kind.WAIT);
+        if (!waits.isEmpty()) {
+            summary.append(String.format("; waits: %d, %.0fms", count(waits), totalMillis(waits)));
+        }
+        Map<String, Histogram> sleeps = select(recorded, Kind.SLEEP);
+        if (!sleeps.isEmpty()) {
+            summary.append(String.format("; sleeps: %d, %.0fms", count(sleeps), totalMillis(sleeps)));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Record an explicit wait
+     * @param name - kind of wait, e.g. "domSettle" (recorded as "wait.domSettle")
+     * @param startNanos - start time captured with System.nanoTime()
+     */
+    public static void recordWait(String name, long startNanos) {
+        record("wait." + name, System.nanoTime() - startNanos, false);
+    }
+
+    /**
+     * Record a fixed sleep
+     * @param name - reason of the sleep (recorded as "sleep.name")
+     * @param millis - slept time in milliseconds
+     */
+    public static void recordSleep(String name, long millis) {
+        record("sleep." + name, millis * 1_000_000L, false);
+    }
+
+    /**
+     * Write the histograms of the run as compact JSON
+     * @return written file, or null if nothing was recorded or the write failed
+     */
+    public static File writeReport() {
+        if (byTest.isEmpty()) {
+            return null;
+        }
+        String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
+        File file = new File(ConfigReader.getProperty("command.timings.dir", System.getProperty("user.dir") + "/test-output"),
+            "command-latency_" + timestamp + ".json");
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("bucketUpperBoundsMs", BUCKET_BOUNDS_MS);
+        report.put("tests", snapshot(byTest));
+        report.put("threads", snapshot(byThread));
+        try {
+            File parent = file.getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("cannot create " + parent);
+            }
+            new ObjectMapper().writeValue(file, report);
+            System.out.println("Command latency histograms written to " + file);
+            return file;
+        } catch (IOException e) {
+            System.out.println("Could not write command latency histograms: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Add run-wide latencies (per command, all threads) to the System/Environment
+     * section of the Extent report: totals for commands, waits and sleeps, then
+     * one row for each of the slowest entries of each kind
+     */
+    public static void publishToReport() {
+        if (byThread.isEmpty() || ExtentManager.getReportPath() == null) {
+            return;
+        }
+        Map<String, Histogram> merged = new TreeMap<>();
+        for (Map<String, Histogram> commands : byThread.values()) {
+            for (Map.Entry<String, Histogram> entry : commands.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), k -> new Histogram()).add(entry.getValue());
+            }
+        }
+
+        for (Kind kind : Kind.values()) {
+            Map<String, Histogram> selected = select(merged, kind);
+            if (!selected.isEmpty()) {
+                ExtentManager.setSystemInfo("Latency - " + kind.label, String.format("%d calls, %.0fms",
+                    count(selected), totalMillis(selected)));
+            }
+        }
+        for (Kind kind : Kind.values()) {
+            List<Map.Entry<String, Histogram>> sorted = sortByTotal(select(merged, kind));
+            for (Map.Entry<String, Histogram> entry : sorted.subList(0, Math.min(REPORT_ROWS, sorted.size()))) {
+                Histogram h = entry.getValue();
+                ExtentManager.setSystemInfo("Latency " + entry.getKey(), String.format(
+                    "%d calls, %d errors, %.0fms total, avg %.1fms, p50 %sms, p90 %sms, p99 %sms, max %.1fms",
+                    h.count.sum(), h.errors.sum(), h.getTotalMillis(), h.getAverageMillis(), h.percentile(0.50),
+                    h.percentile(0.90), h.percentile(0.99), h.maxNanos.get() / 1_000_000.0));
+            }
+        }
+        ExtentManager.flushReport();
+    }
+
+    private static void record(String command, long nanos, boolean error) {
+        String testName = currentTest.get();
+        histogram(byTest, testName != null ? testName : OUTSIDE_TESTS, command).record(nanos, error);
+        histogram(byThread, Thread.currentThread().getName(), command).record(nanos, error);
+    }
+
+    private static Histogram histogram(Map<String, Map<String, Histogram>> scopes, String scope, String command) {
+        return scopes.computeIfAbsent(scope, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(command, k -> new Histogram());
+    }
+
+    private static Map<String, Histogram> select(Map<String, Histogram> recorded, Kind kind) {
+        Map<String, Histogram> selected = new TreeMap<>();
+        for (Map.Entry<String, Histogram> entry : recorded.entrySet()) {
+            if (Kind.of(entry.getKey()) == kind) {
+                selected.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return selected;
+    }
+
+    private static long count(Map<String, Histogram> commands) {
+        long calls = 0;
+        for (Histogram histogram : commands.values()) {
+            calls += histogram.count.sum();
+        }
+        return calls;
+    }
+
+    private static double totalMillis(Map<String, Histogram> commands) {
+        double total = 0;
+        for (Histogram histogram : commands.values()) {
+            total += histogram.getTotalMillis();
+        }
+        return total;
+    }
+
+    private static List<Map.Entry<String, Histogram>> sortByTotal(Map<String, Histogram> commands) {
+        List<Map.Entry<String, Histogram>> sorted = new ArrayList<>(commands.entrySet());
+        sorted.sort((a, b) -> Long.compare(b.getValue().totalNanos.sum(), a.getValue().totalNanos.sum()));
+        return sorted;
+    }
+
+    private static Map<String, Map<String, Map<String, Object>>> snapshot(Map<String, Map<String, Histogram>> scopes) {
+        Map<String, Map<String, Map<String, Object>>> result = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Histogram>> scope : scopes.entrySet()) {
+            Map<String, Map<String, Object>> commands = new TreeMap<>();
+            for (Map.Entry<String, Histogram> entry : scope.getValue().entrySet()) {
+                commands.put(entry.getKey(), entry.getValue().toMap());
+            }
+            result.put(scope.getKey(), commands);
+        }
+        return result;
+    }
+
+    /**
+     * Driver commands, explicit waits and sleeps are totalled separately: a wait
+     * polls with driver commands, so adding both would count that time twice
+     */
+    private enum Kind {
+        COMMAND("driver commands"), WAIT("waits"), SLEEP("sleeps");
+
+        final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        static Kind of(String command) {
+            return command.startsWith("wait.") ? WAIT : command.startsWith("sleep.") ? SLEEP : COMMAND;
+        }
+    }
+
+    /**
+     * Times every call made through the decorated driver and the objects it returns
+     */
+    private static class LatencyListener implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            callStarts.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(method, false);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(method, true);
+        }
+
+        private void finish(Method method, boolean error) {
+            Long start = callStarts.get().poll();
+            if (start != null && method.getDeclaringClass() != Object.class) {
+                record(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    /**
+     * Latency histogram of one command
+     */
+    private static class Histogram {
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean error) {
+            long millis = nanos / 1_000_000L;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        void add(Histogram other) {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i].add(other.buckets[i].sum());
+            }
+            count.add(other.count.sum());
+            errors.add(other.errors.sum());
+            totalNanos.add(other.totalNanos.sum());
+            maxNanos.accumulate(other.maxNanos.get());
+        }
+
+        double getTotalMillis() {
+            return totalNanos.sum() / 1_000_000.0;
+        }
+
+        double getAverageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : getTotalMillis() / n;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given quantile ("&gt;10000" for the last one)
+         */
+        String percentile(double quantile) {
+            long rank = (long) Math.ceil(count.sum() * quantile);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) {
+                    return "<" + BUCKET_BOUNDS_MS[i];
+                }
+            }
+            return ">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1];
+        }
+
+        Map<String, Object> toMap() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count.sum());
+            map.put("errors", errors.sum());
+            map.put("totalMs", Math.round(getTotalMillis() * 10) / 10.0);
+            map.put("maxMs", Math.round(maxNanos.get() / 100_000.0) / 10.0);
+            map.put("buckets", counts);
+            return map;
+        }
+    }
+}
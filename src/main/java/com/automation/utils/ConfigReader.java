@@ -5,68 +5,84 @@ import java.io.IOException;
 import java.util.Properties;
 
 /**
- * Configuration Reader utility to read properties from config files
+ * Configuration Reader utility to read properties from config files.
+ * System properties (-Dkey=value) take precedence over config.properties.
+ * Safe to use from parallel test threads.
  */
 public class ConfigReader {
-    
-    private static Properties properties;
+
+    private static volatile Properties properties;
     private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
-    
+
     /**
      * Load properties from config file
      */
-    public static void loadProperties() {
-        try {
-            properties = new Properties();
-            FileInputStream fileInputStream = new FileInputStream(CONFIG_FILE_PATH);
-            properties.load(fileInputStream);
-            fileInputStream.close();
+    public static synchronized void loadProperties() {
+        Properties loaded = new Properties();
+        try (FileInputStream fileInputStream = new FileInputStream(CONFIG_FILE_PATH)) {
+            loaded.load(fileInputStream);
         } catch (IOException e) {
             throw new RuntimeException("Failed to load config properties: " + e.getMessage());
         }
+        properties = loaded;
+    }
+
+    /**
+     * Get the loaded properties, loading them on first use
+     */
+    private static Properties getProperties() {
+        Properties current = properties;
+        if (current == null) {
+            synchronized (ConfigReader.class) {
+                if (properties == null) {
+                    loadProperties();
+                }
+                current = properties;
+            }
+        }
+        return current;
     }
-    
+
     /**
      * Get property value by key
      */
     public static String getProperty(String key) {
-        if (properties == null) {
-            loadProperties();
+        String override = System.getProperty(key);
+        if (override != null) {
+            return override;
         }
-        return properties.getProperty(key);
+        return getProperties().getProperty(key);
     }
-    
+
     /**
      * Get property value with default value
      */
     public static String getProperty(String key, String defaultValue) {
-        if (properties == null) {
-            loadProperties();
-        }
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
-    
+
     /**
      * Get browser from config
      */
     public static String getBrowser() {
         return getProperty("browser", "chrome");
     }
-    
+
     /**
      * Get URL from config
      */
     public static String getUrl() {
         return getProperty("url");
     }
-    
+
     /**
      * Get implicit wait timeout
      */
     public static int getImplicitWait() {
         return Integer.parseInt(getProperty("implicit.wait", "10"));
     }
-    
+
     /**
      * Get explicit wait timeout
      */
@@ -0,0 +1,226 @@
+package com.automation.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per browser per JVM and remembers the
+ * result in an on-disk manifest, so later runs can start offline from a pinned
+ * local driver path without going through WebDriverManager again.
+ */
+public class DriverBinaryResolver {
+
+    private static final String DEFAULT_MANIFEST_PATH =
+        System.getProperty("user.home") + "/.cache/selenium-testng-framework/driver-manifest.properties";
+
+    private static final String UNRESOLVED = ""; // Cached when WebDriverManager returned no path
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private static final TimingStats resolutionStats = new TimingStats("driver resolution");
+
+    /**
+     * Make sure the driver binary for the browser is resolved and exported as the
+     * matching webdriver.*.driver system property. Only the first call per browser
+     * does any work; later calls return the cached path.
+     * @param browserName - browser name (chrome, firefox, edge)
+     * @return absolute path of the driver binary, or null for browsers without one (safari)
+     *         and when WebDriverManager found none (Selenium Manager then resolves it)
+     */
+    public static String resolve(String browserName) {
+        String browser = browserName.toLowerCase();
+        String systemProperty = getDriverSystemProperty(browser);
+        if (systemProperty == null) {
+            return null;
+        }
+
+        String cached = resolvedPaths.get(browser);
+        if (cached != null) {
+            return cached.equals(UNRESOLVED) ? null : cached;
+        }
+
+        synchronized (locks.computeIfAbsent(browser, key -> new Object())) {
+            cached = resolvedPaths.get(browser);
+            if (cached != null) {
+                return cached.equals(UNRESOLVED) ? null : cached;
+            }
+
+            long start = System.nanoTime();
+            String driverPath = resolveFromManifest(browser);
+            String source = "manifest";
+
+            if (driverPath == null) {
+                if (isOffline()) {
+                    throw new RuntimeException("Offline mode is enabled but no pinned " + browser
+                        + " driver was found in " + getManifestPath()
+                        + ". Run once online (driver.offline=false) or set " + browser + ".driver.path.");
+                }
+                driverPath = resolveWithWebDriverManager(browser);
+                source = "WebDriverManager";
+            }
+            if (driverPath == null) {
+                resolvedPaths.put(browser, UNRESOLVED);
+                long millis = resolutionStats.recordSince(start);
+                System.out.println("WebDriverManager returned no " + browser + " driver path after " + millis
+                    + "ms; leaving it to Selenium Manager");
+                return null;
+            }
+
+            System.setProperty(systemProperty, driverPath);
+            resolvedPaths.put(browser, driverPath);
+            long millis = resolutionStats.recordSince(start);
+            System.out.println("Resolved " + browser + " driver via " + source + " in " + millis + "ms: " + driverPath);
+            return driverPath;
+        }
+    }
+
+    /**
+     * Forget the per-JVM resolution (the on-disk manifest is left untouched)
+     */
+    public static void clearCache() {
+        for (String browser : resolvedPaths.keySet()) {
+            System.clearProperty(getDriverSystemProperty(browser));
+        }
+        resolvedPaths.clear();
+    }
+
+    /**
+     * Timing of the resolutions performed so far in this JVM
+     */
+    public static TimingStats getResolutionStats() {
+        return resolutionStats;
+    }
+
+    /**
+     * Location of the resolution manifest (driver.manifest.path in config.properties)
+     */
+    public static Path getManifestPath() {
+        return Paths.get(ConfigReader.getProperty("driver.manifest.path", DEFAULT_MANIFEST_PATH));
+    }
+
+    private static boolean isOffline() {
+        return Boolean.parseBoolean(System.getProperty("driver.offline",
+            ConfigReader.getProperty("driver.offline", "false")));
+    }
+
+    /**
+     * Look for an explicitly pinned path first, then a manifest entry that is
+     * still present on disk and not older than driver.manifest.max.age.hours
+     */
+    private static String resolveFromManifest(String browser) {
+        String pinned = ConfigReader.getProperty(browser + ".driver.path");
+        if (pinned != null && !pinned.isEmpty() && new File(pinned).canExecute()) {
+            return pinned;
+        }
+
+        Properties manifest = readManifest();
+        String driverPath = manifest.getProperty(browser + ".driver.path");
+        if (driverPath == null || !new File(driverPath).canExecute()) {
+            return null;
+        }
+
+        if (!isOffline()) {
+            long maxAgeHours = Long.parseLong(ConfigReader.getProperty("driver.manifest.max.age.hours", "24"));
+            long resolvedAt = Long.parseLong(manifest.getProperty(browser + ".resolved.at", "0"));
+            if (maxAgeHours > 0 && System.currentTimeMillis() - resolvedAt > maxAgeHours * 3_600_000L) {
+                return null;
+            }
+        }
+        return driverPath;
+    }
+
+    private static String resolveWithWebDriverManager(String browser) {
+        WebDriverManager manager;
+        switch (browser) {
+            case "chrome":
+                manager = WebDriverManager.chromedriver();
+                break;
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            case "edge":
+                manager = WebDriverManager.edgedriver();
+                break;
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        if (driverPath == null) {
+            driverPath = System.getProperty(getDriverSystemProperty(browser));
+        }
+        if (driverPath != null) {
+            writeManifestEntry(browser, driverPath, manager.getDownloadedDriverVersion());
+        }
+        return driverPath;
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        Path manifestPath = getManifestPath();
+        if (Files.exists(manifestPath)) {
+            try (InputStream in = Files.newInputStream(manifestPath)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                System.out.println("Could not read driver manifest " + manifestPath + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Update the manifest under an exclusive file lock so parallel forks do not clobber each other
+     */
+    private static void writeManifestEntry(String browser, String driverPath, String driverVersion) {
+        Path manifestPath = getManifestPath();
+        try {
+            Files.createDirectories(manifestPath.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(manifestPath,
+                     StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                channel.lock(); // Released when the channel is closed
+
+                Properties manifest = new Properties();
+                manifest.load(Channels.newInputStream(channel));
+                manifest.setProperty(browser + ".driver.path", driverPath);
+                if (driverVersion != null) {
+                    manifest.setProperty(browser + ".driver.version", driverVersion);
+                }
+                manifest.setProperty(browser + ".resolved.at", String.valueOf(System.currentTimeMillis()));
+
+                channel.truncate(0);
+                channel.position(0);
+                OutputStream out = Channels.newOutputStream(channel);
+                manifest.store(out, "Resolved browser driver binaries");
+                out.flush();
+            }
+        } catch (IOException e) {
+            System.out.println("Could not write driver manifest " + manifestPath + ": " + e.getMessage());
+        }
+    }
+
+    private static String getDriverSystemProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return null;
+        }
+    }
+}
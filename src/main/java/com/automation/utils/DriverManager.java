@@ -1,8 +1,10 @@
 package com.automation.utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.automation.jfr.DriverSessionEvent;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
@@ -10,27 +12,119 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.safari.SafariDriver;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Driver Manager class to handle WebDriver initialization and management
  */
 public class DriverManager {
     
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static ThreadLocal<DriverPool> leasedFrom = new ThreadLocal<>();
+    private static final Map<Thread, WebDriver> activeDrivers = new ConcurrentHashMap<>();
+    // Pool each active driver was leased from, so quitAllDrivers() can hand it back
+    private static final Map<WebDriver, DriverPool> activeLeases = new ConcurrentHashMap<>();
+    
+    private static final TimingStats resetStats = new TimingStats("session reset");
+    private static final TimingStats quitStats = new TimingStats("session quit");
+    
+    // Clears storage and IndexedDB databases and unregisters service workers for the current origin
+    private static final String CLEAR_ORIGIN_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var tasks = [];" +
+        "try { window.localStorage.clear(); } catch (e) {}" +
+        "try { window.sessionStorage.clear(); } catch (e) {}" +
+        "try {" +
+        "  if (window.indexedDB && indexedDB.databases) {" +
+        "    tasks.push(indexedDB.databases().then(function (dbs) {" +
+        "      return Promise.all(dbs.map(function (db) {" +
+        "        return new Promise(function (resolve) {" +
+        "          var req = indexedDB.deleteDatabase(db.name);" +
+        "          req.onsuccess = req.onerror = req.onblocked = function () { resolve(); };" +
+        "        });" +
+        "      }));" +
+        "    }));" +
+        "  }" +
+        "} catch (e) {}" +
+        "try {" +
+        "  if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations) {" +
+        "    tasks.push(navigator.serviceWorker.getRegistrations().then(function (regs) {" +
+        "      return Promise.all(regs.map(function (r) { return r.unregister(); }));" +
+        "    }));" +
+        "  }" +
+        "} catch (e) {}" +
+        "Promise.all(tasks).then(function () { done(true); }, function () { done(false); });";
     
     /**
-     * Get WebDriver instance for specified browser
+     * Get WebDriver instance for specified browser.
+     * When driver.pool.enabled is set, the session is leased from a pre-warmed pool.
      */
     public static WebDriver getDriver(String browserName) {
+        if (driver.get() != null && !activeDrivers.containsKey(Thread.currentThread())) {
+            // Quit by quitAllDrivers() from another thread
+            driver.remove();
+            leasedFrom.remove();
+        }
         if (driver.get() == null) {
-            createDriver(browserName);
+            if (DriverPool.isEnabled()) {
+                DriverPool pool = DriverPool.forBrowser(browserName);
+                driver.set(pool.lease());
+                leasedFrom.set(pool);
+                activeLeases.put(driver.get(), pool);
+            } else {
+                driver.set(createDriver(browserName));
+            }
+            activeDrivers.put(Thread.currentThread(), driver.get());
         }
         return driver.get();
     }
     
     /**
-     * Create WebDriver instance based on browser name
+     * Pre-warm the session pool for the given browser (no-op when pooling is disabled)
+     */
+    public static void warmUpPool(String browserName) {
+        if (DriverPool.isEnabled()) {
+            DriverPool pool = DriverPool.forBrowser(browserName);
+            pool.warmUp(Integer.parseInt(ConfigReader.getProperty("driver.pool.prewarm", String.valueOf(pool.getMaxSize()))));
+        }
+    }
+    
+    /**
+     * Create a new WebDriver instance based on browser name.
+     * The returned driver is not tracked by DriverManager; the caller owns it and
+     * must close it with {@link #quitSession(WebDriver)} to free its browser slot.
+     * Blocks while the machine is already running its maximum number of browsers.
+     * Commands of the returned driver are timed by CommandLatencyRecorder when enabled.
+     */
+    public static WebDriver createDriver(String browserName) {
+        BrowserCapacity.acquire(browserName);
+        DriverSessionEvent event = new DriverSessionEvent();
+        event.browser = browserName;
+        event.begin();
+        WebDriver webDriver;
+        try {
+            webDriver = CommandLatencyRecorder.instrument(launchBrowser(browserName));
+        } catch (RuntimeException e) {
+            BrowserCapacity.cancel();
+            event.commit();
+            throw e;
+        }
+        event.succeeded = true;
+        event.commit();
+        BrowserCapacity.bind(webDriver);
+        return webDriver;
+    }
+    
+    /**
+     * Launch the browser with the configured options
      */
-    private static void createDriver(String browserName) {
+    private static WebDriver launchBrowser(String browserName) {
         WebDriver webDriver = null;
         
         // Check if running in headless mode (for CI/CD)
@@ -38,7 +132,7 @@ public class DriverManager {
         
         switch (browserName.toLowerCase()) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
+                DriverBinaryResolver.resolve(browserName);
                 ChromeOptions chromeOptions = new ChromeOptions();
                 
                 // Basic Chrome options
@@ -67,7 +161,7 @@ public class DriverManager {
                 break;
                 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
+                DriverBinaryResolver.resolve(browserName);
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 
                 if (isHeadless) {
@@ -86,7 +180,7 @@ public class DriverManager {
                 break;
                 
             case "edge":
-                WebDriverManager.edgedriver().setup();
+                DriverBinaryResolver.resolve(browserName);
                 EdgeOptions edgeOptions = new EdgeOptions();
                 edgeOptions.addArguments("--start-maximized");
                 webDriver = new EdgeDriver(edgeOptions);
@@ -100,17 +194,252 @@ public class DriverManager {
                 throw new IllegalArgumentException("Browser not supported: " + browserName);
         }
         
-        driver.set(webDriver);
+        return webDriver;
+    }
+    
+    /**
+     * Reset the current WebDriver session instead of quitting it: clears cookies,
+     * localStorage, sessionStorage, IndexedDB and service workers, closes extra
+     * windows and navigates to about:blank. Chromium browsers clear the storage
+     * of every origin in the windows' navigation histories and frames; other
+     * browsers can only clear the page open in each window, so the reset fails
+     * (and the caller quits the session) when the windows show different origins.
+     * The reset also fails when the visited origins cannot be listed.
+     * @return true if the session was reset and can be reused
+     */
+    public static boolean resetSession() {
+        WebDriver webDriver = driver.get();
+        return webDriver != null && resetSession(webDriver);
+    }
+    
+    /**
+     * Reset the given WebDriver session (see {@link #resetSession()})
+     * @param webDriver - session to reset
+     * @return true if the session was reset and can be reused
+     */
+    public static boolean resetSession(WebDriver webDriver) {
+        long start = System.nanoTime();
+        CitySelectionUtils.clearCityIndexes(webDriver);
+        try {
+            boolean cdp = webDriver instanceof HasCdp;
+            Set<String> origins = new LinkedHashSet<>();
+            Set<String> handles = webDriver.getWindowHandles();
+            String primary = handles.iterator().next();
+            for (String handle : handles) {
+                webDriver.switchTo().window(handle);
+                if (cdp) {
+                    collectVisitedOrigins((HasCdp) webDriver, origins);
+                } else {
+                    String origin = getOrigin(webDriver.getCurrentUrl());
+                    if (origin != null && origins.add(origin)) {
+                        clearOriginWithScript(webDriver);
+                    }
+                }
+                if (!handle.equals(primary)) {
+                    webDriver.close();
+                }
+            }
+            webDriver.switchTo().window(primary);
+            
+            if (cdp) {
+                clearBrowserDataWithCdp((HasCdp) webDriver, origins);
+            } else {
+                webDriver.manage().deleteAllCookies();
+                if (origins.size() > 1) {
+                    System.out.println("Session used " + origins.size() + " origins; quitting it instead of a reset");
+                    return false;
+                }
+            }
+            
+            webDriver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("Failed to reset session: " + e.getMessage());
+            return false;
+        } finally {
+            resetStats.recordSince(start);
+        }
+    }
+    
+    private static void clearOriginWithScript(WebDriver webDriver) {
+        try {
+            ((JavascriptExecutor) webDriver).executeAsyncScript(CLEAR_ORIGIN_SCRIPT);
+        } catch (Exception e) {
+            // Storage APIs are not available on some pages (about:blank, data: URLs)
+        }
+    }
+    
+    /**
+     * Add the origins of the current window's navigation history and of its
+     * frames; CDP commands go to the window the driver is switched to
+     */
+    private static void collectVisitedOrigins(HasCdp cdp, Set<String> origins) {
+        Map<String, Object> history = cdp.executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap());
+        for (Object entry : (List<?>) history.get("entries")) {
+            addOrigin(origins, ((Map<?, ?>) entry).get("url"));
+        }
+        Map<String, Object> frames = cdp.executeCdpCommand("Page.getFrameTree", Collections.emptyMap());
+        collectFrameOrigins(frames.get("frameTree"), origins);
+    }
+    
+    private static void collectFrameOrigins(Object node, Set<String> origins) {
+        if (!(node instanceof Map)) {
+            return;
+        }
+        Object frame = ((Map<?, ?>) node).get("frame");
+        if (frame instanceof Map) {
+            addOrigin(origins, ((Map<?, ?>) frame).get("url"));
+        }
+        Object children = ((Map<?, ?>) node).get("childFrames");
+        if (children instanceof List) {
+            for (Object child : (List<?>) children) {
+                collectFrameOrigins(child, origins);
+            }
+        }
+    }
+    
+    private static void addOrigin(Set<String> origins, Object url) {
+        String origin = url == null ? null : getOrigin(url.toString());
+        if (origin != null) {
+            origins.add(origin);
+        }
+    }
+    
+    /**
+     * Clear all cookies, the HTTP cache and the storage of each given origin (the
+     * origins visited during the test, see collectVisitedOrigins)
+     */
+    private static void clearBrowserDataWithCdp(HasCdp cdp, Set<String> origins) {
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        
+        for (String origin : origins) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("origin", origin);
+            params.put("storageTypes", "local_storage,session_storage,indexeddb,websql,service_workers,cache_storage");
+            cdp.executeCdpCommand("Storage.clearDataForOrigin", params);
+        }
+        try {
+            cdp.executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+        } catch (Exception e) {
+            // Cache clearing is best effort
+        }
+    }
+    
+    private static String getOrigin(String url) {
+        try {
+            java.net.URI uri = java.net.URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null || !uri.getScheme().startsWith("http")) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : "");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Quit the given WebDriver session and record how long it took
+     * @param webDriver - session to quit
+     */
+    public static void quitSession(WebDriver webDriver) {
+        long start = System.nanoTime();
+        try {
+            webDriver.quit();
+        } finally {
+            BrowserCapacity.release(webDriver);
+            quitStats.recordSince(start);
+        }
+    }
+    
+    /**
+     * Timings of resetSession() calls
+     */
+    public static TimingStats getResetStats() {
+        return resetStats;
+    }
+    
+    /**
+     * Timings of quit calls
+     */
+    public static TimingStats getQuitStats() {
+        return quitStats;
+    }
+    
+    /**
+     * Summary comparing reset and quit costs
+     */
+    public static String getLifecycleSummary() {
+        String summary = "Session lifecycle timings\n  " + resetStats + "\n  " + quitStats;
+        if (resetStats.getCount() > 0 && quitStats.getCount() > 0) {
+            summary += String.format("%n  reset saves %.1fms per test vs quit (relaunch cost not included)",
+                quitStats.getAverageMillis() - resetStats.getAverageMillis());
+        }
+        return summary;
+    }
+    
+    /**
+     * Release the current WebDriver instance: pooled sessions are reset and
+     * returned to the pool, unpooled sessions are quit
+     */
+    public static void releaseDriver() {
+        CitySelectionUtils.clearCityIndexes(driver.get());
+        DriverPool pool = leasedFrom.get();
+        if (pool == null) {
+            quitDriver();
+            return;
+        }
+        if (driver.get() != null) {
+            activeLeases.remove(driver.get());
+            pool.release(driver.get());
+            driver.remove();
+        }
+        leasedFrom.remove();
+        activeDrivers.remove(Thread.currentThread());
     }
     
     /**
      * Quit the current WebDriver instance
      */
     public static void quitDriver() {
+        CitySelectionUtils.clearCityIndexes(driver.get());
         if (driver.get() != null) {
-            driver.get().quit();
+            DriverPool pool = leasedFrom.get();
+            if (pool != null) {
+                activeLeases.remove(driver.get());
+                pool.discard(driver.get());
+            } else {
+                quitSession(driver.get());
+            }
             driver.remove();
         }
+        leasedFrom.remove();
+        activeDrivers.remove(Thread.currentThread());
+    }
+    
+    /**
+     * Quit drivers still held by other threads (e.g. TestNG worker threads that
+     * kept their session under a per-class lifecycle). Pooled sessions are
+     * discarded through their pool. Call once at suite end; a thread whose
+     * driver was quit here gets a new one from its next getDriver().
+     */
+    public static void quitAllDrivers() {
+        for (Map.Entry<Thread, WebDriver> entry : activeDrivers.entrySet()) {
+            try {
+                // Leased sessions go through the pool so its lease count and metrics stay right
+                DriverPool pool = activeLeases.remove(entry.getValue());
+                if (pool != null) {
+                    pool.discard(entry.getValue());
+                } else {
+                    quitSession(entry.getValue());
+                }
+            } catch (Exception e) {
+                System.out.println("Failed to quit driver held by " + entry.getKey().getName() + ": " + e.getMessage());
+            }
+        }
+        activeDrivers.clear();
+        activeLeases.clear();
+        driver.remove();
+        leasedFrom.remove();
     }
     
     /**
@@ -0,0 +1,317 @@
+package com.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of pre-warmed WebDriver sessions, one pool per browser type.
+ * Sessions are leased to tests and reset on release instead of being quit,
+ * and recycled once they exceed the configured use count or memory threshold.
+ */
+public class DriverPool {
+
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+
+    private final String browserName;
+    private final int maxSize;
+    private final int maxUses;
+    private final long maxMemoryBytes;
+    private final long leaseTimeoutSeconds;
+
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private final Semaphore leasePermits;
+
+    private final AtomicInteger createdCount = new AtomicInteger();
+    private final AtomicInteger recycledCount = new AtomicInteger();
+    private final TimingStats leaseWaitStats = new TimingStats("lease wait");
+    private final TimingStats sessionAgeStats = new TimingStats("session age at recycle");
+
+    private volatile boolean shutdown;
+
+    private DriverPool(String browserName, int maxSize, int maxUses, long maxMemoryBytes, long leaseTimeoutSeconds) {
+        this.browserName = browserName;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.leasePermits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Get (or create) the pool for the given browser using config.properties settings
+     * @param browserName - browser name (chrome, firefox, edge, safari)
+     * @return pool for the browser
+     */
+    public static DriverPool forBrowser(String browserName) {
+        return pools.computeIfAbsent(browserName.toLowerCase(), name -> new DriverPool(
+            name,
+            Math.max(1, Integer.parseInt(ConfigReader.getProperty("driver.pool.size", "1"))),
+            Integer.parseInt(ConfigReader.getProperty("driver.pool.max.uses", "20")),
+            Long.parseLong(ConfigReader.getProperty("driver.pool.max.memory.mb", "512")) * 1024L * 1024L,
+            Long.parseLong(ConfigReader.getProperty("driver.pool.lease.timeout", "120"))));
+    }
+
+    /**
+     * Check if session pooling is enabled in config.properties
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * Start browsers up-front so the first tests do not pay for browser startup
+     * @param count - number of sessions to warm (capped at pool size)
+     */
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize) - (idleSessions.size() + leasedSessions.size());
+        List<Thread> starters = new ArrayList<>();
+
+        for (int i = 0; i < target; i++) {
+            Thread starter = new Thread(() -> {
+                try {
+                    idleSessions.offer(newSession());
+                } catch (Exception e) {
+                    System.out.println("Failed to pre-warm " + browserName + " session: " + e.getMessage());
+                }
+            }, "driver-pool-warmup-" + i);
+            starter.start();
+            starters.add(starter);
+        }
+
+        for (Thread starter : starters) {
+            try {
+                starter.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        System.out.println("Pre-warmed " + idleSessions.size() + " " + browserName + " session(s)");
+    }
+
+    /**
+     * Lease a session from the pool, waiting if all sessions are in use
+     * @return WebDriver ready for use
+     */
+    public WebDriver lease() {
+        if (shutdown) {
+            throw new IllegalStateException("Driver pool for " + browserName + " has been shut down");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!leasePermits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Timed out after " + leaseTimeoutSeconds
+                    + "s waiting for a " + browserName + " session from the pool");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a " + browserName + " session", e);
+        }
+        leaseWaitStats.recordSince(start);
+
+        try {
+            PooledSession session = idleSessions.pollFirst();
+            if (session == null) {
+                session = newSession();
+            }
+            session.uses++;
+            leasedSessions.put(session.driver, session);
+            return session.driver;
+        } catch (RuntimeException e) {
+            leasePermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased session to the pool. The session is reset, or quit when it
+     * is due for recycling.
+     * @param webDriver - driver previously obtained from lease()
+     */
+    public void release(WebDriver webDriver) {
+        PooledSession session = leasedSessions.remove(webDriver);
+        if (session == null) {
+            return;
+        }
+
+        try {
+            if (shutdown || shouldRecycle(session) || !DriverManager.resetSession(session.driver)) {
+                retire(session);
+            } else {
+                idleSessions.offerFirst(session);
+            }
+        } finally {
+            leasePermits.release();
+        }
+    }
+
+    /**
+     * Quit a leased session instead of returning it (e.g. after a browser crash)
+     * @param webDriver - driver previously obtained from lease()
+     */
+    public void discard(WebDriver webDriver) {
+        PooledSession session = leasedSessions.remove(webDriver);
+        if (session == null) {
+            return;
+        }
+        try {
+            retire(session);
+        } finally {
+            leasePermits.release();
+        }
+    }
+
+    /**
+     * Quit all idle sessions and refuse further leases
+     */
+    public void shutdown() {
+        shutdown = true;
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            retire(session);
+        }
+    }
+
+    /**
+     * Shut down every browser pool and print their metrics
+     */
+    public static void shutdownAll() {
+        for (DriverPool pool : pools.values()) {
+            pool.shutdown();
+            System.out.println(pool.getMetricsSummary());
+        }
+        pools.clear();
+    }
+
+    private PooledSession newSession() {
+        long start = System.nanoTime();
+        WebDriver webDriver = DriverManager.createDriver(browserName);
+        createdCount.incrementAndGet();
+        System.out.println("Driver pool created " + browserName + " session in "
+            + (System.nanoTime() - start) / 1_000_000L + "ms");
+        return new PooledSession(webDriver);
+    }
+
+    private boolean shouldRecycle(PooledSession session) {
+        if (maxUses > 0 && session.uses >= maxUses) {
+            return true;
+        }
+        if (maxMemoryBytes > 0) {
+            long usedHeap = getUsedJsHeap(session.driver);
+            return usedHeap > maxMemoryBytes;
+        }
+        return false;
+    }
+
+    private void retire(PooledSession session) {
+        sessionAgeStats.record(session.getAgeMillis());
+        recycledCount.incrementAndGet();
+        try {
+            DriverManager.quitSession(session.driver);
+        } catch (Exception e) {
+            System.out.println("Failed to quit pooled " + browserName + " session: " + e.getMessage());
+        }
+    }
+
+    private long getUsedJsHeap(WebDriver webDriver) {
+        try {
+            Object used = ((JavascriptExecutor) webDriver).executeScript(
+                "return (window.performance && performance.memory) ? performance.memory.usedJSHeapSize : -1;");
+            return used instanceof Number ? ((Number) used).longValue() : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Number of live sessions (idle plus leased)
+     */
+    public int getPoolSize() {
+        return idleSessions.size() + leasedSessions.size();
+    }
+
+    public int getIdleCount() {
+        return idleSessions.size();
+    }
+
+    public int getLeasedCount() {
+        return leasedSessions.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public int getRecycledCount() {
+        return recycledCount.get();
+    }
+
+    public TimingStats getLeaseWaitStats() {
+        return leaseWaitStats;
+    }
+
+    public TimingStats getSessionAgeStats() {
+        return sessionAgeStats;
+    }
+
+    /**
+     * Age of the oldest live session in milliseconds
+     */
+    public long getOldestSessionAgeMillis() {
+        long oldest = 0;
+        for (PooledSession session : idleSessions) {
+            oldest = Math.max(oldest, session.getAgeMillis());
+        }
+        for (PooledSession session : leasedSessions.values()) {
+            oldest = Math.max(oldest, session.getAgeMillis());
+        }
+        return oldest;
+    }
+
+    /**
+     * Human readable summary of the pool metrics
+     */
+    public String getMetricsSummary() {
+        return "Driver pool [" + browserName + "] size=" + getPoolSize() + "/" + maxSize
+            + ", idle=" + getIdleCount()
+            + ", leased=" + getLeasedCount()
+            + ", created=" + getCreatedCount()
+            + ", recycled=" + getRecycledCount()
+            + ", oldestSessionAge=" + getOldestSessionAgeMillis() + "ms"
+            + "\n  " + leaseWaitStats
+            + "\n  " + sessionAgeStats;
+    }
+
+    /**
+     * A browser session owned by the pool
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private final long createdAtNanos = System.nanoTime();
+        private int uses;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private long getAgeMillis() {
+            return (System.nanoTime() - createdAtNanos) / 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk extraction of element texts and attributes. Instead of findElements
+ * followed by one getText() round trip per element, everything is read inside
+ * the page with a single executeScript call.
+ *
+ * Only visible elements are returned (rendered box, not visibility:hidden),
+ * with their trimmed innerText - the same text getText() reports.
+ */
+public class ElementTextExtractor {
+
+    private static final String EXTRACT_SCRIPT =
+        "var using = arguments[0], value = arguments[1], attributes = arguments[2];"
+        + "var elements = [];"
+        + "if (using === 'xpath') {"
+        + "  var found = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+        + "  for (var i = 0; i < found.snapshotLength; i++) { elements.push(found.snapshotItem(i)); }"
+        + "} else if (using === 'css selector') {"
+        + "  elements = Array.prototype.slice.call(document.querySelectorAll(value));"
+        + "} else {"
+        + "  elements = value;"
+        + "}"
+        + "var result = [];"
+        + "for (var j = 0; j < elements.length; j++) {"
+        + "  var el = elements[j];"
+        + "  if (!el || el.nodeType !== 1 || el.getClientRects().length === 0"
+        + "      || getComputedStyle(el).visibility === 'hidden') { continue; }"
+        + "  var text = (el.innerText || '').trim();"
+        + "  if (!text) { continue; }"
+        + "  var item = [text];"
+        + "  for (var k = 0; k < attributes.length; k++) { item.push(el.getAttribute(attributes[k])); }"
+        + "  result.push(item);"
+        + "}"
+        + "return result;";
+
+    private ElementTextExtractor() {
+    }
+
+    /**
+     * Get the non-empty texts of all visible elements matching the locator
+     * @param driver - WebDriver instance
+     * @param locator - element locator
+     * @return texts in document order
+     */
+    public static List<String> getTexts(WebDriver driver, By locator) {
+        List<String> texts = new ArrayList<>();
+        for (ElementData element : extract(driver, locator)) {
+            texts.add(element.getText());
+        }
+        return texts;
+    }
+
+    /**
+     * Get text and the given attributes of all visible elements matching the locator.
+     * XPath, CSS, id, name, class name and tag name locators are resolved in the
+     * page (one round trip); other locators need an extra findElements call.
+     * @param driver - WebDriver instance
+     * @param locator - element locator
+     * @param attributes - attribute names to read for each element
+     * @return element data in document order
+     */
+    public static List<ElementData> extract(WebDriver driver, By locator, String... attributes) {
+        String using = null;
+        Object value = null;
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if ("xpath".equals(parameters.using()) || "css selector".equals(parameters.using())) {
+                using = parameters.using();
+                value = parameters.value();
+            } else if ("tag name".equals(parameters.using())) {
+                using = "css selector";
+                value = parameters.value();
+            }
+        }
+        if (using == null) {
+            using = "elements";
+            value = driver.findElements(locator);
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(
+            EXTRACT_SCRIPT, using, value, Arrays.asList(attributes));
+
+        List<ElementData> elements = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object item : (List<?>) result) {
+                List<?> values = (List<?>) item;
+                Map<String, String> attributeValues = new HashMap<>();
+                for (int i = 0; i < attributes.length; i++) {
+                    Object attribute = values.get(i + 1);
+                    attributeValues.put(attributes[i], attribute != null ? attribute.toString() : null);
+                }
+                elements.add(new ElementData(String.valueOf(values.get(0)), attributeValues));
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Text and requested attributes of one extracted element
+     */
+    public static class ElementData {
+        private final String text;
+        private final Map<String, String> attributes;
+
+        ElementData(String text, Map<String, String> attributes) {
+            this.text = text;
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Get attribute value
+         * @return value, or null if the element has no such attribute or it was not requested
+         */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+    }
+}
@@ -1,77 +1,459 @@
 package com.automation.utils;
 
+import com.automation.jfr.ReportFlushEvent;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Extent Reports Manager for test reporting
+ * Extent Reports Manager for test reporting.
+ *
+ * Test threads never touch ExtentReports: creating a test and logging a step
+ * append an entry to a lock-free queue, and a single writer thread applies the
+ * entries in order. The writer flushes the HTML every report.flush.interval.ms
+ * (default 5000) when something changed, and finishReport() drains the queue and
+ * flushes once more at suite end; a shutdown hook does the same if the JVM exits
+ * first. With report.async.enabled=false entries are applied on the calling
+ * thread instead. Queue depth and writer lag (time from
+ * logging to being applied) are summarised by getPipelineSummary().
+ *
+ * Every entry is also appended to the JSONL ReportEventLog. With
+ * report.html.mode=offline the HTML is not built during the run at all:
+ * finishReport() renders it from the event log with ReportRenderer, to an
+ * ExtentReport_&lt;timestamp&gt;_&lt;shard&gt;.html named after the log, so
+ * several suites in one JVM each keep their own report.
  */
 public class ExtentManager {
-    
-    private static ExtentReports extent;
-    private static ExtentSparkReporter sparkReporter;
+
+    private static volatile ExtentReports extent;
     private static String reportPath;
-    
+    private static final ThreadLocal<ReportTest> currentTest = new ThreadLocal<>();
+
+    private static final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger queueDepth = new AtomicInteger();
+    private static final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private static final LongAdder applied = new LongAdder();
+    private static final LongAdder lagNanos = new LongAdder();
+    private static final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+    private static final LongAdder flushes = new LongAdder();
+    private static final LongAdder flushNanos = new LongAdder();
+    private static volatile Thread writer;
+    private static volatile boolean stopping;
+    private static final Object writerLock = new Object();
+
+    static {
+        // The writer is a daemon thread: finish queued entries if the JVM exits before finishReport()
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentManager::finishOnExit, "extent-report-shutdown"));
+    }
+
     /**
      * Initialize Extent Reports
      */
-    public static void initializeReport() {
-        if (extent == null) {
+    public static synchronized void initializeReport() {
+        if (reportPath == null) {
             String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
-            reportPath = System.getProperty("user.dir") + "/test-output/ExtentReport_" + timestamp + ".html";
-            
-            sparkReporter = new ExtentSparkReporter(reportPath);
-            sparkReporter.config().setDocumentTitle("Automation Test Report");
-            sparkReporter.config().setReportName("Test Execution Report");
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            
-            extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
-            extent.setSystemInfo("Operating System", System.getProperty("os.name"));
-            extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extent.setSystemInfo("User Name", System.getProperty("user.name"));
+            String shard = ConfigReader.getProperty("report.shard.id");
+            reportPath = System.getProperty("user.dir") + "/test-output/ExtentReport_" + timestamp
+                + (shard != null ? "_" + shard : "") + ".html";
+        }
+        if (extent == null && isLiveHtml()) {
+            extent = createReports(reportPath);
         }
     }
-    
+
     /**
-     * Create a new test in the report
+     * Create Extent Reports writing Spark HTML to the given file
      */
-    public static ExtentTest createTest(String testName) {
-        return extent.createTest(testName);
+    static ExtentReports createReports(String htmlPath) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(htmlPath);
+        sparkReporter.config().setDocumentTitle("Automation Test Report");
+        sparkReporter.config().setReportName("Test Execution Report");
+        sparkReporter.config().setTheme(Theme.STANDARD);
+
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        reports.setSystemInfo("Operating System", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("User Name", System.getProperty("user.name"));
+        return reports;
+    }
+
+    /**
+     * Create a new test in the report and make it the current thread's test
+     */
+    public static ReportTest createTest(String testName) {
+        return createTest(testName, null);
     }
-    
+
+    /**
+     * Create a new test with description and make it the current thread's test
+     */
+    public static ReportTest createTest(String testName, String description) {
+        ReportTest test = new ReportTest(testName);
+        Entry entry = new Entry(Kind.CREATE, test);
+        entry.description = description;
+        submit(entry);
+        currentTest.set(test);
+        return test;
+    }
+
+    /**
+     * Add a row to the System/Environment section of the report
+     */
+    public static void setSystemInfo(String name, String value) {
+        Entry entry = new Entry(Kind.INFO, null);
+        entry.description = name;
+        entry.details = value;
+        submit(entry);
+    }
+
+    /**
+     * Get the test currently running on this thread
+     */
+    public static ReportTest getCurrentTest() {
+        return currentTest.get();
+    }
+
     /**
-     * Create a new test with description
+     * Forget the current thread's test once it has finished
      */
-    public static ExtentTest createTest(String testName, String description) {
-        return extent.createTest(testName, description);
+    public static void removeCurrentTest() {
+        currentTest.remove();
     }
-    
+
     /**
-     * Flush the report
+     * Ask the writer to flush the report soon; does not wait
      */
     public static void flushReport() {
-        if (extent != null) {
-            extent.flush();
+        submit(new Entry(Kind.FLUSH, null));
+    }
+
+    /**
+     * Apply everything queued, flush the report and stop the writer thread.
+     * Called once at suite end; later entries start a new writer.
+     */
+    public static void finishReport() {
+        Entry flush = new Entry(Kind.FLUSH, null);
+        flush.done = new CompletableFuture<>();
+        submit(flush);
+        try {
+            flush.done.get(60, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.out.println("Report writer did not finish: " + e.getMessage());
         }
+        synchronized (writerLock) {
+            Thread current = writer;
+            if (current != null) {
+                stopping = true;
+                LockSupport.unpark(current);
+                try {
+                    current.join(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writer = null;
+                stopping = false;
+                if (!queue.isEmpty()) {
+                    // Entries that raced with the shutdown get a new writer
+                    LockSupport.unpark(startWriter());
+                }
+            }
+        }
+        Path events = ReportEventLog.getPath();
+        ReportEventLog.close();
+        if (!isLiveHtml() && events != null) {
+            renderOffline(events);
+        }
+    }
+
+    /**
+     * Render a closed event log next to the report, named after the log, and
+     * start a new report path: the next suite in this JVM writes a new log, and
+     * rendering it to the same file would overwrite this suite's report
+     */
+    private static synchronized void renderOffline(Path events) {
+        if (reportPath == null) {
+            return;
+        }
+        String name = events.getFileName().toString().replaceFirst("^report-events_", "ExtentReport_")
+            .replaceFirst("\\.jsonl$", "") + ".html";
+        Path html = Paths.get(reportPath).resolveSibling(name);
+        ReportRenderer.render(events, html);
+        reportPath = null;
+    }
+
+    private static void finishOnExit() {
+        if (writer != null || !queue.isEmpty() || ReportEventLog.isOpen()) {
+            System.out.println("Finishing the report at JVM exit");
+            finishReport();
+        }
+    }
+
+    /**
+     * Entries waiting for the writer
+     */
+    public static int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Queue depth, writer lag and flush totals since the run started
+     */
+    public static String getPipelineSummary() {
+        long count = applied.sum();
+        return String.format("Report pipeline - %d entries, queue depth %d (max %d), writer lag avg %.2fms max %.2fms,"
+                + " %d flushes (%dms)", count, queueDepth.get(), maxQueueDepth.get(),
+            count == 0 ? 0.0 : lagNanos.sum() / 1_000_000.0 / count, maxLagNanos.get() / 1_000_000.0,
+            flushes.sum(), flushNanos.sum() / 1_000_000L);
     }
-    
+
     /**
      * Get extent reports instance
      */
     public static ExtentReports getExtentReports() {
         return extent;
     }
-    
+
     /**
      * Get report path
      */
     public static String getReportPath() {
         return reportPath;
     }
+
+    static void enqueueLog(ReportTest test, Status status, String details, Markup markup) {
+        Entry entry = new Entry(Kind.LOG, test);
+        entry.status = status;
+        entry.details = details;
+        entry.markup = markup;
+        submit(entry);
+    }
+
+    static void enqueueEnd(ReportTest test, Status status, String details) {
+        Entry entry = new Entry(Kind.END, test);
+        entry.status = status;
+        entry.details = details;
+        submit(entry);
+    }
+
+    static void enqueueScreenshot(ReportTest test, String path, String title) {
+        Entry entry = new Entry(Kind.SCREENSHOT, test);
+        entry.details = path;
+        entry.description = title;
+        submit(entry);
+    }
+
+    private static boolean isAsync() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("report.async.enabled", "true"));
+    }
+
+    /**
+     * Build the HTML while tests run (report.html.mode=live, default) or only
+     * from the event log at the end (offline)
+     */
+    private static boolean isLiveHtml() {
+        return !"offline".equalsIgnoreCase(ConfigReader.getProperty("report.html.mode", "live"));
+    }
+
+    private static void submit(Entry entry) {
+        entry.timeMillis = System.currentTimeMillis();
+        if (!isAsync()) {
+            synchronized (ExtentManager.class) {
+                apply(entry);
+                if (entry.kind == Kind.FLUSH) {
+                    flushNow();
+                } else {
+                    ReportEventLog.flush();
+                }
+            }
+            if (entry.done != null) {
+                entry.done.complete(null);
+            }
+            return;
+        }
+        entry.enqueuedNanos = System.nanoTime();
+        queue.add(entry);
+        maxQueueDepth.accumulate(queueDepth.incrementAndGet());
+        Thread current = writer;
+        if (current == null) {
+            current = startWriter();
+        }
+        LockSupport.unpark(current);
+    }
+
+    private static Thread startWriter() {
+        synchronized (writerLock) {
+            if (writer == null) {
+                Thread thread = new Thread(ExtentManager::writeLoop, "extent-report-writer");
+                thread.setDaemon(true);
+                writer = thread;
+                thread.start();
+            }
+            return writer;
+        }
+    }
+
+    private static void writeLoop() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(
+            Long.parseLong(ConfigReader.getProperty("report.flush.interval.ms", "5000")));
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        boolean eventsBuffered = false;
+
+        while (true) {
+            Entry entry = queue.poll();
+            if (entry == null) {
+                if (eventsBuffered) {
+                    // Caught up: hand the buffered events to the file before sleeping
+                    ReportEventLog.flush();
+                    eventsBuffered = false;
+                }
+                if (dirty && System.nanoTime() - lastFlush >= interval) {
+                    flushNow();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(dirty ? Math.min(interval, TimeUnit.MILLISECONDS.toNanos(250)) : interval);
+                continue;
+            }
+
+            queueDepth.decrementAndGet();
+            long lag = System.nanoTime() - entry.enqueuedNanos;
+            lagNanos.add(lag);
+            maxLagNanos.accumulate(lag);
+            try {
+                apply(entry);
+                dirty = true;
+                eventsBuffered = true;
+                if (entry.kind == Kind.FLUSH && entry.done != null) {
+                    // Explicit flush at suite end; timed flushes cover flushReport() requests
+                    flushNow();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            } catch (RuntimeException e) {
+                System.out.println("Report writer skipped an entry: " + e.getMessage());
+            } finally {
+                if (entry.done != null) {
+                    entry.done.complete(null);
+                }
+            }
+        }
+    }
+
+    private static void apply(Entry entry) {
+        applied.increment();
+        if (entry.kind == Kind.FLUSH) {
+            return;
+        }
+        if (ReportEventLog.isEnabled()) {
+            logEvent(entry);
+        }
+        if (entry.kind == Kind.CREATE) {
+            if (reportPath == null) {
+                initializeReport();
+            }
+            if (extent != null) {
+                entry.test.setExtentTest(entry.description == null ? extent.createTest(entry.test.getName())
+                    : extent.createTest(entry.test.getName(), entry.description));
+            }
+            return;
+        }
+        if (entry.kind == Kind.INFO) {
+            if (extent != null) {
+                extent.setSystemInfo(entry.description, entry.details);
+            }
+            return;
+        }
+        ExtentTest target = entry.test.getExtentTest();
+        if (target == null) {
+            return; // Offline HTML, or the test was created before the report was initialized
+        }
+        if (entry.kind == Kind.SCREENSHOT) {
+            target.addScreenCaptureFromPath(entry.details, entry.description);
+        } else if (entry.markup != null) {
+            target.log(entry.status, entry.markup);
+        } else {
+            target.log(entry.status, entry.details);
+        }
+    }
+
+    private static void logEvent(Entry entry) {
+        switch (entry.kind) {
+            case CREATE:
+                ReportEventLog.testCreated(entry.test, entry.description, entry.timeMillis);
+                break;
+            case SCREENSHOT:
+                ReportEventLog.screenshotAdded(entry.test, entry.details, entry.description, entry.timeMillis);
+                break;
+            case INFO:
+                ReportEventLog.systemInfo(entry.description, entry.details, entry.timeMillis);
+                break;
+            case END:
+                ReportEventLog.testEnded(entry.test, entry.status, entry.details, entry.timeMillis);
+                break;
+            default:
+                ReportEventLog.stepLogged(entry.test, entry.status, entry.details,
+                    entry.markup != null ? entry.markup.getMarkup() : null, entry.timeMillis);
+        }
+    }
+
+    private static void flushNow() {
+        ReportEventLog.flush();
+        if (extent != null) {
+            ReportFlushEvent event = new ReportFlushEvent();
+            event.reportPath = reportPath;
+            event.begin();
+            long start = System.nanoTime();
+            extent.flush();
+            flushNanos.add(System.nanoTime() - start);
+            flushes.increment();
+            event.commit();
+        }
+    }
+
+    private enum Kind {
+        CREATE, LOG, END, SCREENSHOT, INFO, FLUSH
+    }
+
+    /**
+     * One queued report operation. For screenshots details is the image path and
+     * description its title; for system info description is the name and details
+     * the value.
+     */
+    private static class Entry {
+        final Kind kind;
+        final ReportTest test;
+        String description;
+        Status status;
+        String details;
+        Markup markup;
+        long timeMillis;
+        long enqueuedNanos;
+        CompletableFuture<Void> done;
+
+        Entry(Kind kind, ReportTest test) {
+            this.kind = kind;
+            this.test = test;
+        }
+    }
 }
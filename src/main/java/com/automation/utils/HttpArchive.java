@@ -0,0 +1,244 @@
+package com.automation.utils;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk archive of recorded HTTP responses keyed by method and URL.
+ * An archive opened for replay is memory-mapped read-only and only its index
+ * is parsed on open; response bodies are copied out of the mapping when served.
+ * An archive opened for recording reads the existing file into the heap
+ * instead: save() replaces the file, which is not possible while it is mapped
+ * on Windows, and a mapping is only released when it is garbage collected.
+ *
+ * File layout: magic, entry count, then per entry the key, status, headers
+ * and body (strings and bodies are length-prefixed).
+ */
+public class HttpArchive {
+
+    private static final int MAGIC = 0x53_4A_52_31; // "SJR1"
+
+    private final Path file;
+    private final boolean readOnly;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entriesWithoutQuery = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+    private ByteBuffer data; // Mapped file (read-only) or its bytes on the heap
+
+    private HttpArchive(Path file, boolean readOnly) {
+        this.file = file;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Open an archive
+     * @param file - archive file
+     * @param readOnly - map the file for replay (true), or read it into memory so responses can be recorded and saved
+     * @return archive (empty if the file does not exist yet)
+     */
+    public static HttpArchive open(Path file, boolean readOnly) {
+        HttpArchive archive = new HttpArchive(file, readOnly);
+        if (Files.exists(file)) {
+            archive.load();
+        }
+        return archive;
+    }
+
+    private void load() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = readOnly ? channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                : ByteBuffer.wrap(Files.readAllBytes(file));
+            ByteBuffer buffer = data.duplicate();
+            if (buffer.getInt() != MAGIC) {
+                throw new RuntimeException("Not a network archive: " + file);
+            }
+
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                int status = buffer.getInt();
+                int headerCount = buffer.getInt();
+                List<String[]> headers = new ArrayList<>(headerCount);
+                for (int h = 0; h < headerCount; h++) {
+                    headers.add(new String[] {readString(buffer), readString(buffer)});
+                }
+                int length = buffer.getInt();
+                Entry entry = new Entry(status, headers, null, buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                index(key, entry);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read network archive " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Find the recorded response for a request; falls back to the same URL without
+     * its query string so cache-busting parameters still replay
+     * @return entry or null if the request was never recorded
+     */
+    public Entry lookup(String method, String url) {
+        Entry entry = entries.get(key(method, url));
+        if (entry == null) {
+            entry = entriesWithoutQuery.get(key(method, stripQuery(url)));
+        }
+        return entry;
+    }
+
+    /**
+     * Record a response (replaces any earlier recording of the same request)
+     */
+    public void record(String method, String url, int status, List<String[]> headers, byte[] body) {
+        if (readOnly) {
+            throw new IllegalStateException("Network archive " + file + " was opened read-only for replay");
+        }
+        index(key(method, url), new Entry(status, headers, body, 0, body.length));
+        modified = true;
+    }
+
+    /**
+     * Write the archive if anything was recorded since it was opened
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> recorded : entries.entrySet()) {
+                    Entry entry = recorded.getValue();
+                    writeString(out, recorded.getKey());
+                    out.writeInt(entry.status);
+                    out.writeInt(entry.headers.size());
+                    for (String[] header : entry.headers) {
+                        writeString(out, header[0]);
+                        writeString(out, header[1]);
+                    }
+                    byte[] body = entry.getBody();
+                    out.writeInt(body.length);
+                    out.write(body);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+            System.out.println("Network archive saved: " + file + " (" + entries.size() + " responses)");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write network archive " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Number of recorded responses
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get archive file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private void index(String key, Entry entry) {
+        entries.put(key, entry);
+        int space = key.indexOf(' ');
+        entriesWithoutQuery.putIfAbsent(key.substring(0, space) + " " + stripQuery(key.substring(space + 1)), entry);
+    }
+
+    private static String key(String method, String url) {
+        return method + " " + url;
+    }
+
+    private static String stripQuery(String url) {
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * A recorded response; the body is either held in memory (new recordings)
+     * or read from the archive file data
+     */
+    public class Entry {
+        private final int status;
+        private final List<String[]> headers;
+        private final byte[] body;
+        private final int offset;
+        private final int length;
+
+        Entry(int status, List<String[]> headers, byte[] body, int offset, int length) {
+            this.status = status;
+            this.headers = Collections.unmodifiableList(headers);
+            this.body = body;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Get body length in bytes
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * Get a copy of the body
+         */
+        public byte[] getBody() {
+            if (body != null) {
+                return body;
+            }
+            byte[] copy = new byte[length];
+            ByteBuffer view = data.duplicate();
+            view.position(offset);
+            view.get(copy);
+            return copy;
+        }
+
+        /**
+         * Build the response served to the browser
+         */
+        public HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(status);
+            for (String[] header : headers) {
+                response.addHeader(header[0], header[1]);
+            }
+            response.setContent(Contents.bytes(getBody()));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.automation.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Case-insensitive multi-keyword matcher (Aho-Corasick). The automaton is built
+ * once from the keywords; matching walks the text a single time, lower-casing
+ * one char at a time instead of copying the text.
+ *
+ * ASCII transitions are a full lookup table, so ASCII text is matched without
+ * allocating; chars outside ASCII follow the failure links through small maps.
+ */
+public final class KeywordMatcher {
+
+    private static final int ASCII = 128;
+
+    private final int[][] next;                        // [state][ascii char] -> state
+    private final int[] fail;
+    private final boolean[] terminal;                  // a keyword ends here or at a suffix state
+    private final List<Map<Character, Integer>> wide;  // non-ASCII edges, null when a state has none
+    private final List<String> keywords;
+
+    private KeywordMatcher(int[][] next, int[] fail, boolean[] terminal, List<Map<Character, Integer>> wide,
+                           List<String> keywords) {
+        this.next = next;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.wide = wide;
+        this.keywords = keywords;
+    }
+
+    /**
+     * Build a matcher from a comma separated keyword list, e.g. "select, search,from"
+     * @param commaSeparated - keywords; blanks are ignored
+     * @return matcher
+     */
+    public static KeywordMatcher parse(String commaSeparated) {
+        List<String> keywords = new ArrayList<>();
+        for (String keyword : commaSeparated.split(",")) {
+            if (!keyword.trim().isEmpty()) {
+                keywords.add(keyword.trim());
+            }
+        }
+        return of(keywords);
+    }
+
+    /**
+     * Build a matcher for the given keywords
+     * @param keywords - keywords to find, matched case-insensitively
+     * @return matcher
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        List<int[]> next = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        List<Map<Character, Integer>> wide = new ArrayList<>();
+        next.add(newRow());
+        terminal.add(false);
+        wide.add(null);
+
+        // Trie of the lower-cased keywords
+        for (String keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = lower(keyword.charAt(i));
+                int target = c < ASCII ? next.get(state)[c] : wideEdge(wide.get(state), c);
+                if (target <= 0) {
+                    target = next.size();
+                    next.add(newRow());
+                    terminal.add(false);
+                    wide.add(null);
+                    if (c < ASCII) {
+                        next.get(state)[c] = target;
+                    } else {
+                        if (wide.get(state) == null) {
+                            wide.set(state, new HashMap<>());
+                        }
+                        wide.get(state).put(c, target);
+                    }
+                }
+                state = target;
+            }
+            terminal.set(state, true);
+        }
+
+        // Breadth-first: failure links, then missing ASCII edges borrowed from the failure state
+        int size = next.size();
+        int[][] table = next.toArray(new int[size][]);
+        int[] fail = new int[size];
+        boolean[] terminals = new boolean[size];
+        for (int s = 0; s < size; s++) {
+            terminals[s] = terminal.get(s);
+        }
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ASCII; c++) {
+            if (table[0][c] > 0) {
+                queue.add(table[0][c]);
+            }
+        }
+        if (wide.get(0) != null) {
+            queue.addAll(wide.get(0).values());
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            terminals[state] |= terminals[fail[state]];
+            for (int c = 0; c < ASCII; c++) {
+                int child = table[state][c];
+                if (child > 0) {
+                    fail[child] = table[fail[state]][c];
+                    queue.add(child);
+                } else {
+                    table[state][c] = table[fail[state]][c];
+                }
+            }
+            if (wide.get(state) != null) {
+                for (Map.Entry<Character, Integer> edge : wide.get(state).entrySet()) {
+                    fail[edge.getValue()] = step(fail, wide, fail[state], edge.getKey());
+                    queue.add(edge.getValue());
+                }
+            }
+        }
+        return new KeywordMatcher(table, fail, terminals, wide, new ArrayList<>(keywords));
+    }
+
+    /**
+     * Check if any keyword occurs in the text, ignoring case
+     * @param text - text to scan
+     * @return true if a keyword was found
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = lower(text.charAt(i));
+            state = c < ASCII ? next[state][c] : step(fail, wide, state, c);
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keywords this matcher was built from
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public String toString() {
+        return "KeywordMatcher" + keywords;
+    }
+
+    private static int step(int[] fail, List<Map<Character, Integer>> wide, int state, char c) {
+        while (true) {
+            int target = wideEdge(wide.get(state), c);
+            if (target > 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int wideEdge(Map<Character, Integer> edges, char c) {
+        if (edges == null) {
+            return 0;
+        }
+        Integer target = edges.get(c);
+        return target == null ? 0 : target;
+    }
+
+    private static char lower(char c) {
+        if (c < ASCII) {
+            return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int[] newRow() {
+        return new int[ASCII];
+    }
+}
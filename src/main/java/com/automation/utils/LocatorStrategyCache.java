@@ -0,0 +1,253 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Remembers which locator strategy found a logical element, keyed by (page class,
+ * logical element), so the next lookup tries the strategy that worked first.
+ *
+ * Strategies are ranked by wins; a strategy that misses locator.cache.demote.after
+ * times in a row (default 2) drops behind the others until it wins again.
+ * Strategies can be grouped by precision: ranking only reorders strategies of
+ * the same precision, so a fuzzy match never moves ahead of an exact one. The
+ * ranking is saved as JSON (locator.cache.path) and loaded by the next run.
+ * A lookup is a hit when the first strategy tried wins and a miss otherwise.
+ */
+public class LocatorStrategyCache {
+
+    private static final String DEFAULT_PATH =
+        System.getProperty("user.home") + "/.cache/selenium-testng-framework/locator-cache.json";
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Map<String, Map<String, StrategyScore>> rankings = new ConcurrentHashMap<>();
+    private static final Map<String, LookupStats> stats = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+    private static volatile boolean dirty;
+
+    private LocatorStrategyCache() {
+    }
+
+    /**
+     * Check if lookups should be reordered by the cache (locator.cache.enabled, default true)
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("locator.cache.enabled", "true"));
+    }
+
+    /**
+     * Order strategies so the best ranked one is tried first; strategies with no
+     * history keep their original order behind the ones that have won before
+     * @param page - page or component class that owns the element
+     * @param element - logical element name, e.g. "city option"
+     * @param strategies - strategies in default priority order
+     * @param idOf - stable id of a strategy (name or selector)
+     * @return strategies in the order to try them
+     */
+    public static <T> List<T> rank(Class<?> page, String element, List<T> strategies, Function<T, String> idOf) {
+        return rank(page, element, strategies, idOf, s -> 0);
+    }
+
+    /**
+     * Order strategies like rank(page, element, strategies, idOf), but only
+     * within groups of the same precision; more precise groups always come first
+     * @param precisionOf - precision group of a strategy, lower is more precise
+     */
+    public static <T> List<T> rank(Class<?> page, String element, List<T> strategies, Function<T, String> idOf,
+                                   Function<T, Integer> precisionOf) {
+        if (!isEnabled() || strategies.size() < 2) {
+            return strategies;
+        }
+        Map<String, StrategyScore> scores = scoresFor(key(page, element));
+        int demoteAfter = getDemoteAfter();
+        List<T> ranked = new ArrayList<>(strategies);
+        synchronized (scores) {
+            // List.sort is stable, so ties keep the default priority order
+            ranked.sort(Comparator.<T>comparingInt(precisionOf::apply)
+                .thenComparingInt(s -> isDemoted(scores.get(idOf.apply(s)), demoteAfter) ? 1 : 0)
+                .thenComparingLong(s -> {
+                    StrategyScore score = scores.get(idOf.apply(s));
+                    return score == null ? 0 : -score.wins;
+                }));
+        }
+        return ranked;
+    }
+
+    /**
+     * Record the outcome of one lookup
+     * @param page - page or component class that owns the element
+     * @param element - logical element name
+     * @param tried - ids of the strategies tried, in the order they were tried
+     * @param winner - id of the strategy that found the element, or null if none did
+     *                 (counted as a miss without touching the ranking)
+     */
+    public static void recordLookup(Class<?> page, String element, List<String> tried, String winner) {
+        if (!isEnabled() || tried.isEmpty()) {
+            return;
+        }
+        String key = key(page, element);
+        // When nothing matched the element is absent, which says nothing about the strategies
+        if (winner != null) {
+            Map<String, StrategyScore> scores = scoresFor(key);
+            synchronized (scores) {
+                for (String id : tried) {
+                    StrategyScore score = scores.computeIfAbsent(id, k -> new StrategyScore());
+                    if (id.equals(winner)) {
+                        score.wins++;
+                        score.consecutiveMisses = 0;
+                        break;
+                    }
+                    score.misses++;
+                    score.consecutiveMisses++;
+                }
+            }
+            dirty = true;
+        }
+
+        LookupStats lookups = stats.computeIfAbsent(key, k -> new LookupStats());
+        if (tried.get(0).equals(winner)) {
+            lookups.hits.incrementAndGet();
+        } else {
+            lookups.misses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Hit count of a logical element in this run
+     */
+    public static long getHits(Class<?> page, String element) {
+        LookupStats lookups = stats.get(key(page, element));
+        return lookups == null ? 0 : lookups.hits.get();
+    }
+
+    /**
+     * Miss count of a logical element in this run
+     */
+    public static long getMisses(Class<?> page, String element) {
+        LookupStats lookups = stats.get(key(page, element));
+        return lookups == null ? 0 : lookups.misses.get();
+    }
+
+    /**
+     * Hits and misses of every logical element looked up in this run
+     */
+    public static String getSummary() {
+        if (stats.isEmpty()) {
+            return "Locator cache - no lookups";
+        }
+        StringBuilder summary = new StringBuilder("Locator cache -");
+        for (Map.Entry<String, LookupStats> entry : new TreeMap<>(stats).entrySet()) {
+            summary.append(String.format(" %s: %d hits/%d misses;", entry.getKey(),
+                entry.getValue().hits.get(), entry.getValue().misses.get()));
+        }
+        return summary.substring(0, summary.length() - 1);
+    }
+
+    /**
+     * Write the rankings to locator.cache.path if anything changed in this run
+     */
+    public static synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Path path = getPath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Map<String, Map<String, StrategyScore>> snapshot = new TreeMap<>();
+            for (Map.Entry<String, Map<String, StrategyScore>> entry : rankings.entrySet()) {
+                synchronized (entry.getValue()) {
+                    snapshot.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
+                }
+            }
+            mapper.writeValue(path.toFile(), snapshot);
+            dirty = false;
+            System.out.println("Locator rankings saved to " + path);
+        } catch (IOException e) {
+            System.out.println("Could not save locator rankings to " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Forget the rankings and counts of this run (the file on disk is left untouched)
+     */
+    public static synchronized void reset() {
+        rankings.clear();
+        stats.clear();
+        loaded = true;
+        dirty = false;
+    }
+
+    /**
+     * Location of the rankings file (locator.cache.path in config.properties)
+     */
+    public static Path getPath() {
+        return Paths.get(ConfigReader.getProperty("locator.cache.path", DEFAULT_PATH));
+    }
+
+    private static Map<String, StrategyScore> scoresFor(String key) {
+        load();
+        return rankings.computeIfAbsent(key, k -> new LinkedHashMap<>());
+    }
+
+    private static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        Path path = getPath();
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try {
+            Map<String, LinkedHashMap<String, StrategyScore>> saved = mapper.readValue(path.toFile(),
+                new TypeReference<Map<String, LinkedHashMap<String, StrategyScore>>>() { });
+            rankings.putAll(saved);
+            System.out.println("Loaded locator rankings for " + saved.size() + " elements from " + path);
+        } catch (IOException e) {
+            System.out.println("Ignoring unreadable locator rankings " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isDemoted(StrategyScore score, int demoteAfter) {
+        return score != null && score.consecutiveMisses >= demoteAfter;
+    }
+
+    private static int getDemoteAfter() {
+        return Integer.parseInt(ConfigReader.getProperty("locator.cache.demote.after", "2"));
+    }
+
+    private static String key(Class<?> page, String element) {
+        return page.getSimpleName() + "/" + element;
+    }
+
+    /**
+     * Persisted record of one strategy for one logical element
+     */
+    public static class StrategyScore {
+        public long wins;
+        public long misses;
+        public int consecutiveMisses;
+    }
+
+    private static class LookupStats {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+    }
+}
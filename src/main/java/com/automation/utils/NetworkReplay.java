@@ -0,0 +1,355 @@
+package com.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-test interception of browser network traffic: resource blocking,
+ * record and replay.
+ *
+ * block.enabled=true answers ads, analytics and media from ResourceBlocker
+ * with an empty response. network.mode=record captures every response the
+ * browser receives into an HttpArchive; network.mode=replay serves requests
+ * from the archive and never lets them reach the network (unrecorded requests
+ * get a 404). Traffic is intercepted through the DevTools Fetch domain, so
+ * Chrome and Edge only.
+ */
+public class NetworkReplay {
+
+    private static final Set<String> DROPPED_HEADERS = new HashSet<>(Arrays.asList(
+        "content-length", "content-encoding", "transfer-encoding", "connection"));
+
+    private static final Map<Path, HttpArchive> archives = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Session> session = new ThreadLocal<>();
+    private static final Stats runStats = new Stats("run");
+
+    private static final String PAGE_LOAD_SCRIPT =
+        "var nav = performance.getEntriesByType('navigation')[0];"
+        + "if (nav && nav.loadEventEnd > 0) { return Math.round(nav.loadEventEnd - nav.startTime); }"
+        + "var t = performance.timing;"
+        + "return t.loadEventEnd > 0 ? t.loadEventEnd - t.navigationStart : -1;";
+
+    private NetworkReplay() {
+    }
+
+    /**
+     * Get configured mode: live (default), record or replay
+     */
+    public static String getMode() {
+        return ConfigReader.getProperty("network.mode", "live").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Check if traffic is being recorded or replayed
+     */
+    public static boolean isEnabled() {
+        String mode = getMode();
+        return "record".equals(mode) || "replay".equals(mode);
+    }
+
+    /**
+     * Check if any interception (record, replay or blocking) is configured
+     */
+    public static boolean isActive() {
+        return isEnabled() || ResourceBlocker.isEnabled();
+    }
+
+    /**
+     * Start intercepting the driver's traffic for one test
+     * @param driver - driver of the current thread
+     * @param testName - name used in the per-test report
+     */
+    public static void start(WebDriver driver, String testName) {
+        stop();
+        if (!isActive()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("Network interception needs a DevTools capable browser (Chrome/Edge); running live");
+            return;
+        }
+
+        Stats stats = new Stats(testName);
+        AtomicBoolean blocking = new AtomicBoolean(true);
+        Filter filter = null;
+        if (ResourceBlocker.isEnabled()) {
+            filter = ResourceBlocker.filter(blocking::get, stats);
+        }
+        if (isEnabled()) {
+            HttpArchive archive = getArchive();
+            Filter archiveFilter = "record".equals(getMode())
+                ? recordFilter(archive, stats) : replayFilter(archive, stats);
+            filter = filter == null ? archiveFilter : filter.andThen(archiveFilter);
+        }
+        session.set(new Session(new NetworkInterceptor(driver, filter), stats, blocking));
+    }
+
+    /**
+     * Open a page and record its load time for the current test. With
+     * block.compare.page.load=true the page is first loaded with blocking paused
+     * so the report shows load time with and without blocking (cache cleared
+     * before each load).
+     */
+    public static void loadPage(WebDriver driver, String url) {
+        Session current = session.get();
+        if (current != null && ResourceBlocker.isComparisonEnabled()) {
+            current.blocking.set(false);
+            clearCache(driver);
+            driver.get(url);
+            record(current.stats.unblockedPageLoads, runStats.unblockedPageLoads, measurePageLoad(driver));
+            current.blocking.set(true);
+            clearCache(driver);
+        }
+        driver.get(url);
+        recordPageLoad(driver);
+    }
+
+    /**
+     * Record the load time of the page currently open in the driver
+     */
+    public static void recordPageLoad(WebDriver driver) {
+        Session current = session.get();
+        if (current != null) {
+            record(current.stats.pageLoads, runStats.pageLoads, measurePageLoad(driver));
+        }
+    }
+
+    /**
+     * Get load time of the current page from Navigation Timing
+     * @return milliseconds, or -1 if the browser did not report it
+     */
+    public static long measurePageLoad(WebDriver driver) {
+        try {
+            Object millis = ((JavascriptExecutor) driver).executeScript(PAGE_LOAD_SCRIPT);
+            return millis instanceof Number ? ((Number) millis).longValue() : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static void record(TimingStats testStats, TimingStats totals, long millis) {
+        if (millis >= 0) {
+            testStats.record(millis);
+            totals.record(millis);
+        }
+    }
+
+    private static void clearCache(WebDriver driver) {
+        if (driver instanceof HasCdp) {
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Stop intercepting for the current thread
+     * @return stats of the finished test, or null if nothing was intercepted
+     */
+    public static Stats stop() {
+        Session current = session.get();
+        if (current == null) {
+            return null;
+        }
+        session.remove();
+        try {
+            current.interceptor.close();
+        } catch (Exception e) {
+            System.out.println("Failed to remove network interceptor: " + e.getMessage());
+        }
+        runStats.add(current.stats);
+        return current.stats;
+    }
+
+    /**
+     * Write all archives that were recorded into
+     */
+    public static void saveArchives() {
+        for (HttpArchive archive : archives.values()) {
+            archive.save();
+        }
+    }
+
+    /**
+     * Totals across all tests of the run
+     */
+    public static Stats getRunStats() {
+        return runStats;
+    }
+
+    private static HttpArchive getArchive() {
+        String dir = ConfigReader.getProperty("network.archive.dir", "src/test/resources/recordings");
+        String name = ConfigReader.getProperty("network.archive.name", "spicejet");
+        Path file = Paths.get(dir, name + ".netarchive").toAbsolutePath();
+
+        boolean replay = "replay".equals(getMode());
+        HttpArchive archive = archives.computeIfAbsent(file, path -> HttpArchive.open(path, replay));
+        if (replay && archive.size() == 0) {
+            throw new RuntimeException("No recorded traffic in " + file
+                + " - run once with network.mode=record first");
+        }
+        return archive;
+    }
+
+    private static Filter recordFilter(HttpArchive archive, Stats stats) {
+        return next -> request -> {
+            HttpResponse response = next.execute(request);
+            byte[] body = Contents.bytes(response.getContent());
+            response.setContent(Contents.bytes(body));
+
+            List<String[]> headers = new ArrayList<>();
+            response.forEachHeader((name, value) -> {
+                if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.add(new String[] {name, value});
+                }
+            });
+            archive.record(request.getMethod().name(), request.getUri(), response.getStatus(), headers, body);
+            stats.recordRequest(true, body.length);
+            return response;
+        };
+    }
+
+    private static Filter replayFilter(HttpArchive archive, Stats stats) {
+        Set<String> passthroughHosts = new HashSet<>(Arrays.asList(
+            ConfigReader.getProperty("network.replay.passthrough", "127.0.0.1,localhost").split("\\s*,\\s*")));
+
+        return next -> request -> {
+            if (passthroughHosts.contains(getHost(request.getUri()))) {
+                return next.execute(request);
+            }
+            HttpArchive.Entry entry = archive.lookup(request.getMethod().name(), request.getUri());
+            if (entry == null) {
+                stats.recordRequest(false, 0);
+                return new HttpResponse().setStatus(404).setContent(Contents.empty());
+            }
+            stats.recordRequest(true, entry.getLength());
+            return entry.toResponse();
+        };
+    }
+
+    private static String getHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static class Session {
+        private final NetworkInterceptor interceptor;
+        private final Stats stats;
+        private final AtomicBoolean blocking;
+
+        Session(NetworkInterceptor interceptor, Stats stats, AtomicBoolean blocking) {
+            this.interceptor = interceptor;
+            this.stats = stats;
+            this.blocking = blocking;
+        }
+    }
+
+    /**
+     * Requests, archive hits, bytes served, blocked requests and page-load times
+     * for one test (or the whole run)
+     */
+    public static class Stats {
+        private final String name;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong blocked = new AtomicLong();
+        private final TimingStats pageLoads = new TimingStats("page load");
+        private final TimingStats unblockedPageLoads = new TimingStats("page load without blocking");
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        void recordBlocked() {
+            blocked.incrementAndGet();
+        }
+
+        void recordRequest(boolean hit, long bodyBytes) {
+            requests.incrementAndGet();
+            if (hit) {
+                hits.incrementAndGet();
+                bytes.addAndGet(bodyBytes);
+            }
+        }
+
+        void add(Stats other) {
+            requests.addAndGet(other.requests.get());
+            hits.addAndGet(other.hits.get());
+            bytes.addAndGet(other.bytes.get());
+            blocked.addAndGet(other.blocked.get());
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public long getHits() {
+            return hits.get();
+        }
+
+        public long getBytesServed() {
+            return bytes.get();
+        }
+
+        public long getBlocked() {
+            return blocked.get();
+        }
+
+        public TimingStats getPageLoads() {
+            return pageLoads;
+        }
+
+        public TimingStats getUnblockedPageLoads() {
+            return unblockedPageLoads;
+        }
+
+        /**
+         * Share of requests answered from the archive (always 1.0 when recording)
+         */
+        public double getHitRatio() {
+            long total = requests.get();
+            return total == 0 ? 0 : (double) hits.get() / total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder(name).append(':');
+            if (getRequests() > 0) {
+                summary.append(String.format(" %d requests, %d hits (%.1f%%), %.1f KB served,",
+                    getRequests(), getHits(), getHitRatio() * 100, getBytesServed() / 1024.0));
+            }
+            summary.append(' ').append(getBlocked()).append(" blocked");
+            if (pageLoads.getCount() > 0) {
+                summary.append(String.format(", page load %.0fms", pageLoads.getAverageMillis()));
+            }
+            if (unblockedPageLoads.getCount() > 0) {
+                summary.append(String.format(" (%.0fms without blocking)", unblockedPageLoads.getAverageMillis()));
+            }
+            return summary.toString();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.automation.utils;
+
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Append-only JSON Lines log of every report event (test created, step logged,
+ * screenshot attached, test ended with its TestNG result, system info added),
+ * one object per line. This is the primary report store: ReportRenderer builds
+ * the Spark HTML from it after the run.
+ *
+ * Lines are encoded into a 64 KB buffer and written to a FileChannel when the
+ * buffer fills and whenever the report writer's queue runs empty, so a burst
+ * of steps costs one write. Only whole lines are buffered, so after a crash
+ * the file is readable up to its last complete line.
+ * Events come from the report writer thread, so the locks here are uncontended.
+ *
+ * Each file starts with a "run" line naming its shard (report.shard.id, default
+ * the process id), so the logs of parallel JVMs or machines can be combined
+ * with ReportMerger.
+ */
+public class ReportEventLog {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static FileChannel channel;
+    private static ByteBuffer buffer;
+    private static Path path;
+    private static long events;
+
+    private ReportEventLog() {
+    }
+
+    /**
+     * Check if events are logged (report.events.enabled, default true)
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("report.events.enabled", "true"));
+    }
+
+    static synchronized void testCreated(ReportTest test, String description, long timeMillis) {
+        ObjectNode event = event("test", test, timeMillis);
+        event.put("name", test.getName());
+        if (description != null) {
+            event.put("description", description);
+        }
+        append(event);
+    }
+
+    static synchronized void stepLogged(ReportTest test, Status status, String details, String markup,
+                                        long timeMillis) {
+        ObjectNode event = event("log", test, timeMillis);
+        event.put("status", status.toString());
+        if (markup != null) {
+            event.put("markup", markup);
+        } else {
+            event.put("details", details);
+        }
+        append(event);
+    }
+
+    static synchronized void testEnded(ReportTest test, Status status, String details, long timeMillis) {
+        ObjectNode event = event("end", test, timeMillis);
+        event.put("status", status.toString());
+        event.put("details", details);
+        append(event);
+    }
+
+    static synchronized void screenshotAdded(ReportTest test, String screenshotPath, String title, long timeMillis) {
+        ObjectNode event = event("screenshot", test, timeMillis);
+        event.put("path", screenshotPath);
+        if (title != null) {
+            event.put("title", title);
+        }
+        append(event);
+    }
+
+    static synchronized void systemInfo(String name, String value, long timeMillis) {
+        ObjectNode event = mapper.createObjectNode();
+        event.put("t", timeMillis);
+        event.put("type", "info");
+        event.put("name", name);
+        event.put("value", value);
+        append(event);
+    }
+
+    /**
+     * Write buffered lines to the file
+     */
+    public static synchronized void flush() {
+        if (channel == null || buffer.position() == 0) {
+            return;
+        }
+        try {
+            drain();
+        } catch (IOException e) {
+            System.out.println("Could not write report events to " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write buffered lines and close the file; the next event starts a new log
+     */
+    public static synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("Could not close report event log " + path + ": " + e.getMessage());
+        }
+        channel = null;
+        System.out.println("Report events (" + events + ") written to " + path);
+    }
+
+    /**
+     * Check if an event log is open (events were logged since the last close())
+     */
+    public static synchronized boolean isOpen() {
+        return channel != null;
+    }
+
+    /**
+     * Name of this JVM's shard in merged reports (report.shard.id, default the process id)
+     */
+    public static String getShardId() {
+        return ConfigReader.getProperty("report.shard.id", String.valueOf(ProcessHandle.current().pid()));
+    }
+
+    /**
+     * Current (or last) event log file, or null if nothing was logged
+     */
+    public static synchronized Path getPath() {
+        return path;
+    }
+
+    private static ObjectNode event(String type, ReportTest test, long timeMillis) {
+        ObjectNode event = mapper.createObjectNode();
+        event.put("t", timeMillis);
+        event.put("type", type);
+        event.put("test", test.getId());
+        return event;
+    }
+
+    private static void append(ObjectNode event) {
+        try {
+            if (channel == null) {
+                open();
+            }
+            byte[] line = mapper.writeValueAsBytes(event);
+            if (line.length + 1 > buffer.remaining()) {
+                drain();
+            }
+            if (line.length + 1 > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.allocate(line.length + 1);
+                large.put(line).put((byte) '\n').flip();
+                write(large);
+            } else {
+                buffer.put(line).put((byte) '\n');
+            }
+            events++;
+        } catch (JsonProcessingException e) {
+            System.out.println("Could not encode report event: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Could not write report events to " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static void open() throws IOException {
+        String timestamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
+        Path dir = Paths.get(ConfigReader.getProperty("report.events.dir", "test-output"));
+        Files.createDirectories(dir);
+        String shard = getShardId();
+        path = dir.resolve("report-events_" + timestamp + "_" + shard + ".jsonl");
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        buffer.clear();
+        events = 0;
+
+        ObjectNode run = mapper.createObjectNode();
+        run.put("t", System.currentTimeMillis());
+        run.put("type", "run");
+        run.put("shard", shard);
+        buffer.put(mapper.writeValueAsBytes(run)).put((byte) '\n');
+    }
+
+    private static void drain() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private static void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Combines the report event logs of several JVMs (surefire forks, CI machines)
+ * into one Extent report. The shards are merged by event time into a single
+ * event log, holding only the next line of each shard in memory, and that log
+ * is rendered with ReportRenderer. Test ids are prefixed with the shard index
+ * ("2:17"), so a merged log can itself be merged again.
+ *
+ * Usage: ReportMerger [-o MergedReport.html] &lt;event log or directory&gt;...
+ * Directories contribute their report-events_*.jsonl files; an argument may
+ * list several inputs separated by commas. Point it at the logs of one run:
+ * a shared test-output directory also keeps the logs of earlier runs.
+ */
+public class ReportMerger {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private ReportMerger() {
+    }
+
+    public static void main(String[] args) {
+        Path html = null;
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-o".equals(args[i]) && i + 1 < args.length) {
+                html = Paths.get(args[++i]);
+            } else if (args[i] == null || args[i].contains("${")) {
+                // Unset Maven property, e.g. report.shards in the report-merge profile
+                System.out.println("No report shards given: set -Dreport.shards to the event logs or directories"
+                    + " of this run");
+                System.exit(2);
+            } else {
+                for (String input : args[i].split(",")) {
+                    if (!input.trim().isEmpty()) {
+                        inputs.add(Paths.get(input.trim()));
+                    }
+                }
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.out.println("Usage: ReportMerger [-o MergedReport.html] <event log or directory>...");
+            System.exit(2);
+        }
+
+        List<Path> shards;
+        try {
+            shards = findShards(inputs);
+        } catch (IOException e) {
+            System.out.println("Could not list report shards: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (shards.isEmpty()) {
+            System.out.println("No report-events_*.jsonl files found in " + inputs);
+            System.exit(1);
+        }
+        if (html == null) {
+            html = shards.get(0).resolveSibling("MergedReport.html");
+        }
+        Path merged = html.resolveSibling(html.getFileName().toString().replaceFirst("\\.html$", "") + "-events.jsonl");
+        if (merge(shards, merged) < 0 || ReportRenderer.render(merged, html) < 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Expand directories to the event logs they contain, sorted by name
+     * @param inputs - event log files or directories
+     * @return event log files
+     */
+    public static List<Path> findShards(List<Path> inputs) throws IOException {
+        List<Path> shards = new ArrayList<>();
+        for (Path input : inputs) {
+            if (!Files.isDirectory(input)) {
+                shards.add(input);
+                continue;
+            }
+            List<Path> found = new ArrayList<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(input, "report-events_*.jsonl")) {
+                files.forEach(found::add);
+            }
+            Collections.sort(found);
+            shards.addAll(found);
+        }
+        return shards;
+    }
+
+    /**
+     * Merge event logs by event time into one log. Each shard's own order is
+     * kept, so a test's steps always follow its creation.
+     * @param shards - event logs to merge
+     * @param output - merged event log to write
+     * @return number of events written, or -1 if a shard could not be read
+     */
+    public static long merge(List<Path> shards, Path output) {
+        long start = System.nanoTime();
+        List<Cursor> cursors = new ArrayList<>();
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> a.time != b.time
+            ? Long.compare(a.time, b.time) : Integer.compare(a.index, b.index));
+        long written = 0;
+
+        try {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            System.out.println("Could not create " + output.toAbsolutePath().getParent() + ": " + e.getMessage());
+            return -1;
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (Path shard : shards) {
+                Cursor cursor = new Cursor(cursors.size(), shard);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+            while (!heads.isEmpty()) {
+                Cursor cursor = heads.poll();
+                out.write(mapper.writeValueAsString(cursor.event));
+                out.write('\n');
+                written++;
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not merge report shards into " + output + ": " + e.getMessage());
+            return -1;
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+
+        System.out.printf("Merged %d events from %d shards into %s in %dms%n", written, shards.size(), output,
+            (System.nanoTime() - start) / 1_000_000L);
+        return written;
+    }
+
+    /**
+     * Next unread event of one shard, with its test id already prefixed
+     */
+    private static class Cursor {
+        final int index;
+        final Path path;
+        final BufferedReader reader;
+        ObjectNode event;
+        long time;
+        int lineNumber;
+
+        Cursor(int index, Path path) throws IOException {
+            this.index = index;
+            this.path = path;
+            this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        }
+
+        boolean advance() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = mapper.readTree(line);
+                } catch (IOException e) {
+                    // Usually the last line of a shard whose JVM died mid-write
+                    System.out.println("Skipping unreadable event " + path.getFileName() + ":" + lineNumber);
+                    continue;
+                }
+                if (!node.isObject()) {
+                    continue;
+                }
+                event = (ObjectNode) node;
+                time = event.path("t").asLong();
+                if (event.has("test")) {
+                    event.put("test", index + ":" + event.get("test").asText());
+                }
+                return true;
+            }
+            event = null;
+            return false;
+        }
+
+        void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                System.out.println("Could not close " + path + ": " + e.getMessage());
+            }
+        }
+    }
+}
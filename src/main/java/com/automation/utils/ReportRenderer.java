@@ -0,0 +1,189 @@
+package com.automation.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+import com.aventstack.extentreports.model.Log;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the Spark HTML report from a ReportEventLog file (or a ReportMerger
+ * output) after the run, with the original test and step times; the report
+ * spans the first to the last event. Each test's "end" event carries its
+ * TestNG result and is rendered as its last step; tests that never ended (the
+ * run crashed) are counted in the system info. A truncated last line is ignored.
+ *
+ * Usage: ReportRenderer test-output/report-events_&lt;timestamp&gt;.jsonl [report.html]
+ */
+public class ReportRenderer {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private ReportRenderer() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: ReportRenderer <events.jsonl> [report.html]");
+            System.exit(2);
+        }
+        Path events = Paths.get(args[0]);
+        Path html = args.length > 1 ? Paths.get(args[1])
+            : events.resolveSibling(events.getFileName().toString().replaceFirst("\\.jsonl$", "") + ".html");
+        if (render(events, html) < 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Render an event log to Spark HTML
+     * @param events - JSONL event log
+     * @param html - report file to write
+     * @return number of tests rendered, or -1 if the log could not be read
+     */
+    public static int render(Path events, Path html) {
+        ExtentReports reports = ExtentManager.createReports(html.toString());
+        reports.setReportUsesManualConfiguration(true); // Keep the logged times
+        Rendering rendering = new Rendering();
+        int lineNumber = 0;
+        int skipped = 0;
+        long start = System.nanoTime();
+
+        try (BufferedReader reader = Files.newBufferedReader(events, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                lineNumber++;
+                if (!line.isEmpty()) {
+                    try {
+                        rendering.apply(mapper.readTree(line), reports);
+                    } catch (JsonProcessingException | RuntimeException e) {
+                        if (next == null) {
+                            System.out.println("Ignoring truncated last event on line " + lineNumber);
+                        } else {
+                            skipped++;
+                            System.out.println("Skipping unreadable event on line " + lineNumber + ": " + e.getMessage());
+                        }
+                    }
+                }
+                line = next;
+            }
+        } catch (IOException e) {
+            System.out.println("Could not read report events " + events + ": " + e.getMessage());
+            return -1;
+        }
+
+        if (rendering.shards.size() > 1) {
+            reports.setSystemInfo("Shards", String.join(", ", rendering.shards));
+        }
+        for (Map.Entry<String, List<String>> info : rendering.systemInfo.entrySet()) {
+            List<String> values = info.getValue();
+            for (int i = 0; i < values.size(); i++) {
+                // Merged shards each report their own value
+                String name = values.size() == 1 ? info.getKey() : info.getKey() + " #" + (i + 1);
+                reports.setSystemInfo(name, values.get(i));
+            }
+        }
+        if (rendering.first > 0) {
+            reports.getReport().setStartTime(new Date(rendering.first));
+            reports.getReport().setEndTime(new Date(rendering.last));
+        }
+        int unfinished = rendering.tests.size() - rendering.ended.size();
+        if (unfinished > 0) {
+            reports.setSystemInfo("Tests without a result", String.valueOf(unfinished));
+        }
+        reports.flush();
+        System.out.printf("Rendered %d tests (%d without a result) from %d events to %s in %dms%s%n",
+            rendering.tests.size(), unfinished, lineNumber, html, (System.nanoTime() - start) / 1_000_000L,
+            skipped > 0 ? " (" + skipped + " skipped)" : "");
+        return rendering.tests.size();
+    }
+
+    /**
+     * State of one render: tests by id, ended tests, system info and the time span of the events
+     */
+    private static class Rendering {
+        final Map<String, ExtentTest> tests = new HashMap<>();
+        final Map<String, List<String>> systemInfo = new LinkedHashMap<>();
+        final Set<String> shards = new LinkedHashSet<>();
+        final Set<String> ended = new HashSet<>();
+        long first;
+        long last;
+
+        void apply(JsonNode event, ExtentReports reports) {
+            String type = event.path("type").asText();
+            long t = event.path("t").asLong();
+            if (first == 0 || t < first) {
+                first = t;
+            }
+            last = Math.max(last, t);
+
+            if ("run".equals(type)) {
+                shards.add(event.path("shard").asText());
+                return;
+            }
+            if ("info".equals(type)) {
+                systemInfo.computeIfAbsent(event.path("name").asText(), k -> new ArrayList<>())
+                    .add(event.path("value").asText());
+                return;
+            }
+            String id = event.path("test").asText();
+            Date time = new Date(t);
+            if ("test".equals(type)) {
+                String name = event.path("name").asText();
+                ExtentTest test = event.hasNonNull("description")
+                    ? reports.createTest(name, event.get("description").asText()) : reports.createTest(name);
+                test.getModel().setStartTime(time);
+                test.getModel().setEndTime(time);
+                tests.put(id, test);
+                return;
+            }
+            ExtentTest test = tests.get(id);
+            if (test == null) {
+                throw new IllegalStateException("event for unknown test " + id);
+            }
+            if ("end".equals(type)) {
+                ended.add(id);
+            }
+            if ("screenshot".equals(type)) {
+                test.addScreenCaptureFromPath(event.path("path").asText(),
+                    event.hasNonNull("title") ? event.get("title").asText() : null);
+            } else {
+                // Steps and the final "end" event with the TestNG result, which sets the test status
+                Status status = Status.valueOf(event.path("status").asText("INFO").toUpperCase());
+                if (event.hasNonNull("markup")) {
+                    String markup = event.get("markup").asText();
+                    test.log(status, (Markup) () -> markup);
+                } else {
+                    test.log(status, event.path("details").asText());
+                }
+                List<Log> logs = test.getModel().getLogs();
+                if (!logs.isEmpty()) {
+                    logs.get(logs.size() - 1).setTimestamp(time);
+                }
+            }
+            if (time.after(test.getModel().getEndTime())) {
+                test.getModel().setEndTime(time);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.automation.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle of a test in the Extent report. Logging only queues the entry; the
+ * report writer thread of ExtentManager applies it to the underlying ExtentTest,
+ * so test threads never wait on ExtentReports.
+ */
+public class ReportTest {
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id = nextId.incrementAndGet();
+    private final String name;
+    private volatile ExtentTest extentTest; // Set by the writer thread when it creates the test
+
+    ReportTest(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Log a step; with screenshot.on.step=true a screenshot of the thread's
+     * browser follows it
+     * @param status - step status
+     * @param details - step text
+     * @return this test
+     */
+    public ReportTest log(Status status, String details) {
+        ExtentManager.enqueueLog(this, status, details, null);
+        if (ScreenshotCapture.isOnStepEnabled()) {
+            ScreenshotCapture.capture(DriverManager.getCurrentDriver(), this, details);
+        }
+        return this;
+    }
+
+    /**
+     * Log a step with markup (tables, code blocks, labels)
+     * @param status - step status
+     * @param markup - step markup
+     * @return this test
+     */
+    public ReportTest log(Status status, Markup markup) {
+        ExtentManager.enqueueLog(this, status, null, markup);
+        return this;
+    }
+
+    public ReportTest info(String details) {
+        return log(Status.INFO, details);
+    }
+
+    public ReportTest info(Markup markup) {
+        return log(Status.INFO, markup);
+    }
+
+    public ReportTest pass(String details) {
+        return log(Status.PASS, details);
+    }
+
+    public ReportTest fail(String details) {
+        return log(Status.FAIL, details);
+    }
+
+    public ReportTest warning(String details) {
+        return log(Status.WARNING, details);
+    }
+
+    public ReportTest skip(String details) {
+        return log(Status.SKIP, details);
+    }
+
+    /**
+     * Record the test's result as its last step, which sets its status in the
+     * report (a FAIL step logged earlier still wins over a pass)
+     * @param status - PASS, FAIL or SKIP from the test runner
+     * @param details - result text, e.g. the failure message
+     * @return this test
+     */
+    public ReportTest end(Status status, String details) {
+        ExtentManager.enqueueEnd(this, status, details);
+        return this;
+    }
+
+    /**
+     * Attach a screenshot saved on disk
+     * @param path - image path, relative to the report or absolute
+     * @param title - caption, or null
+     * @return this test
+     */
+    public ReportTest addScreenshot(String path, String title) {
+        ExtentManager.enqueueScreenshot(this, path, title);
+        return this;
+    }
+
+    /**
+     * Id of the test in the report event log
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    ExtentTest getExtentTest() {
+        return extentTest;
+    }
+
+    void setExtentTest(ExtentTest extentTest) {
+        this.extentTest = extentTest;
+    }
+}
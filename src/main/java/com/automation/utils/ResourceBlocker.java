@@ -0,0 +1,135 @@
+package com.automation.utils;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks third-party ads, analytics and heavy media the tests never assert on.
+ * Requests are matched against block.url.patterns (globs with *) and
+ * block.resource.types (image, font, media, stylesheet), and answered with an
+ * empty 204 before they reach the network.
+ */
+public class ResourceBlocker {
+
+    private static final String DEFAULT_PATTERNS = "*google-analytics.com*,*googletagmanager.com*,"
+        + "*doubleclick.net*,*googlesyndication.com*,*facebook.net*,*connect.facebook.com*,"
+        + "*hotjar.com*,*clarity.ms*,*adservice.google.*,*criteo.*,*taboola.com*,*moengage.com*";
+
+    private static final Set<String> IMAGE_EXTENSIONS = new HashSet<>(Arrays.asList(
+        "png", "jpg", "jpeg", "gif", "webp", "avif", "svg", "ico", "bmp"));
+    private static final Set<String> FONT_EXTENSIONS = new HashSet<>(Arrays.asList(
+        "woff", "woff2", "ttf", "otf", "eot"));
+    private static final Set<String> MEDIA_EXTENSIONS = new HashSet<>(Arrays.asList(
+        "mp4", "webm", "ogg", "mp3", "wav", "m3u8", "ts", "mov"));
+
+    private ResourceBlocker() {
+    }
+
+    /**
+     * Check if blocking is enabled for the suite (block.enabled)
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("block.enabled", "false"));
+    }
+
+    /**
+     * Check if each test should also load its start page unblocked for comparison
+     * (block.compare.page.load)
+     */
+    public static boolean isComparisonEnabled() {
+        return isEnabled() && Boolean.parseBoolean(ConfigReader.getProperty("block.compare.page.load", "false"));
+    }
+
+    /**
+     * Build the blocking filter
+     * @param active - checked per request, so blocking can be paused for a baseline load
+     * @param stats - per-test stats receiving the blocked count
+     */
+    static Filter filter(BooleanSupplier active, NetworkReplay.Stats stats) {
+        List<Pattern> patterns = compilePatterns(ConfigReader.getProperty("block.url.patterns", DEFAULT_PATTERNS));
+        Set<String> types = new HashSet<>(splitList(
+            ConfigReader.getProperty("block.resource.types", "media,font").toLowerCase(Locale.ROOT)));
+
+        return next -> request -> {
+            if (active.getAsBoolean() && isBlocked(request, patterns, types)) {
+                stats.recordBlocked();
+                return new HttpResponse().setStatus(204).setContent(Contents.empty());
+            }
+            return next.execute(request);
+        };
+    }
+
+    static boolean isBlocked(HttpRequest request, List<Pattern> patterns, Set<String> types) {
+        String url = request.getUri();
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return !types.isEmpty() && types.contains(getResourceType(url, request.getHeader("Accept")));
+    }
+
+    /**
+     * Infer the resource type of a request from its file extension, then its Accept header
+     * @return image, font, media, stylesheet or other
+     */
+    static String getResourceType(String url, String accept) {
+        String path = url;
+        int end = path.length();
+        int query = path.indexOf('?');
+        int fragment = path.indexOf('#');
+        if (query >= 0) end = query;
+        if (fragment >= 0 && fragment < end) end = fragment;
+        path = path.substring(0, end);
+
+        int dot = path.lastIndexOf('.');
+        if (dot > path.lastIndexOf('/')) {
+            String extension = path.substring(dot + 1).toLowerCase(Locale.ROOT);
+            if (IMAGE_EXTENSIONS.contains(extension)) return "image";
+            if (FONT_EXTENSIONS.contains(extension)) return "font";
+            if (MEDIA_EXTENSIONS.contains(extension)) return "media";
+            if ("css".equals(extension)) return "stylesheet";
+        }
+
+        if (accept != null) {
+            if (accept.startsWith("image/")) return "image";
+            if (accept.startsWith("video/") || accept.startsWith("audio/")) return "media";
+            if (accept.startsWith("text/css")) return "stylesheet";
+            if (accept.startsWith("font/")) return "font";
+        }
+        return "other";
+    }
+
+    private static List<Pattern> compilePatterns(String globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : splitList(globs)) {
+            List<String> parts = new ArrayList<>();
+            for (String part : glob.split("\\*", -1)) {
+                parts.add(Pattern.quote(part));
+            }
+            patterns.add(Pattern.compile(String.join(".*", parts)));
+        }
+        return patterns;
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+}
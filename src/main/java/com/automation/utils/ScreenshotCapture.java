@@ -0,0 +1,374 @@
+package com.automation.utils;
+
+import com.aventstack.extentreports.markuputils.Markup;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Takes screenshots for the report. The test thread only calls getScreenshotAs;
+ * hashing, downscaling to screenshot.max.width and JPEG encoding run on a small
+ * pool (screenshot.encoder.threads). Queued PNGs may use at most
+ * screenshot.queue.mb; when that is full the capturing thread waits for the
+ * encoders instead of decoding images itself, so memory stays bounded however
+ * many tests fail at once. Images and page sources are saved in the
+ * ArtifactStore, which keeps one copy of identical frames.
+ */
+public class ScreenshotCapture {
+
+    private static final Map<String, CompletableFuture<ArtifactStore.Artifact>> savedByHash = new ConcurrentHashMap<>();
+    private static final LongAdder captured = new LongAdder();
+    private static final LongAdder captureNanos = new LongAdder();
+    private static final LongAdder encoded = new LongAdder();
+    private static final LongAdder encodeNanos = new LongAdder();
+    private static final LongAdder backpressureNanos = new LongAdder();
+    private static final LongAdder rawBytes = new LongAdder();
+    private static final LongAdder encodedBytes = new LongAdder();
+    private static ExecutorService encoder;
+    private static Semaphore queuedKb;
+
+    private ScreenshotCapture() {
+    }
+
+    /**
+     * Check if failed tests get a screenshot (screenshot.on.failure)
+     */
+    public static boolean isOnFailureEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("screenshot.on.failure", "true"));
+    }
+
+    /**
+     * Check if every step logged while a browser is open gets a screenshot (screenshot.on.step)
+     */
+    public static boolean isOnStepEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("screenshot.on.step", "false"));
+    }
+
+    /**
+     * Check if failed tests also get their page source (page.source.on.failure)
+     */
+    public static boolean isPageSourceOnFailureEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("page.source.on.failure", "true"));
+    }
+
+    /**
+     * Screenshot the current thread's browser and attach it to its report test
+     * @param title - caption in the report
+     * @return false if there is no browser or report test, or the screenshot failed
+     */
+    public static boolean capture(String title) {
+        return capture(DriverManager.getCurrentDriver(), ExtentManager.getCurrentTest(), title);
+    }
+
+    /**
+     * Screenshot a browser and attach it to a report test once encoded
+     * @param driver - browser to capture
+     * @param test - report test to attach to
+     * @param title - caption in the report
+     * @return false if there is no browser or report test, or the screenshot failed
+     */
+    public static boolean capture(WebDriver driver, ReportTest test, String title) {
+        if (!(driver instanceof TakesScreenshot) || test == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (RuntimeException e) {
+            System.out.println("Screenshot failed for " + test.getName() + ": " + e.getMessage());
+            return false;
+        }
+        captureNanos.add(System.nanoTime() - start);
+        captured.increment();
+        rawBytes.add(png.length);
+        return submit(png.length, test, () -> save(png, test, title));
+    }
+
+    /**
+     * Save a browser's page source and link it from a report test
+     * @param driver - browser to read
+     * @param test - report test to link from
+     * @return false if there is no browser or report test, or reading the source failed
+     */
+    public static boolean capturePageSource(WebDriver driver, ReportTest test) {
+        if (driver == null || test == null) {
+            return false;
+        }
+        String source;
+        try {
+            source = driver.getPageSource();
+        } catch (RuntimeException e) {
+            System.out.println("Page source failed for " + test.getName() + ": " + e.getMessage());
+            return false;
+        }
+        if (source == null) {
+            return false;
+        }
+        return submit(source.length(), test, () -> {
+            try {
+                ArtifactStore.Artifact artifact = ArtifactStore.put(source.getBytes(StandardCharsets.UTF_8), "html");
+                String link = "Page source: <a href='" + artifact.getReportPath() + "' target='_blank'>"
+                    + artifact.getHash().substring(0, 12) + "</a>";
+                test.info((Markup) () -> link);
+            } catch (IOException e) {
+                System.out.println("Could not save page source for " + test.getName() + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Run work on the encoder pool once the queue has room for its input
+     */
+    private static boolean submit(int bytes, ReportTest test, Runnable work) {
+        ExecutorService executor;
+        Semaphore budget;
+        synchronized (ScreenshotCapture.class) {
+            executor = getEncoder();
+            budget = queuedKb;
+        }
+        int kb = Math.min(bytes / 1024 + 1, getQueueKb());
+        long waitStart = System.nanoTime();
+        try {
+            budget.acquire(kb);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Report capture dropped for " + test.getName() + ": interrupted");
+            return false;
+        }
+        backpressureNanos.add(System.nanoTime() - waitStart);
+        Runnable task = () -> {
+            try {
+                work.run();
+            } finally {
+                budget.release(kb);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run(); // Captured while the suite was finishing
+        }
+        return true;
+    }
+
+    /**
+     * Wait for queued screenshots to be attached; call before the report is finished
+     */
+    public static void awaitPending() {
+        ExecutorService current;
+        synchronized (ScreenshotCapture.class) {
+            current = encoder;
+            encoder = null;
+        }
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(60, TimeUnit.SECONDS)) {
+                System.out.println("Screenshot encoder did not finish, "
+                    + current.shutdownNow().size() + " screenshots dropped");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Capture, encode and deduplication totals since the run started
+     */
+    public static String getSummary() {
+        long count = captured.sum();
+        long written = encoded.sum();
+        return String.format("Screenshots - %d captured (avg %.1fms on the test thread, %dms waiting for the"
+                + " encoders), %d encoded (avg %.1fms), %dKB PNG -> %dKB JPEG", count,
+            count == 0 ? 0.0 : captureNanos.sum() / 1_000_000.0 / count, backpressureNanos.sum() / 1_000_000L,
+            written, written == 0 ? 0.0 : encodeNanos.sum() / 1_000_000.0 / written,
+            rawBytes.sum() / 1024, encodedBytes.sum() / 1024);
+    }
+
+    private static ExecutorService getEncoder() {
+        if (encoder == null) {
+            int threads = Integer.parseInt(ConfigReader.getProperty("screenshot.encoder.threads", "2"));
+            AtomicInteger count = new AtomicInteger();
+            encoder = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-encoder-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            queuedKb = new Semaphore(getQueueKb());
+        }
+        return encoder;
+    }
+
+    private static int getQueueKb() {
+        return Integer.parseInt(ConfigReader.getProperty("screenshot.queue.mb", "32")) * 1024;
+    }
+
+    private static void save(byte[] png, ReportTest test, String title) {
+        try {
+            String hash = ArtifactStore.sha256(png);
+            CompletableFuture<ArtifactStore.Artifact> saved = new CompletableFuture<>();
+            CompletableFuture<ArtifactStore.Artifact> existing = savedByHash.putIfAbsent(hash, saved);
+            // Same frame may still be encoding on another thread; null means it was not stored itself
+            ArtifactStore.Artifact artifact = existing != null ? existing.join() : null;
+            String caption = title;
+            if (artifact != null) {
+                ArtifactStore.reused(artifact);
+            } else {
+                Encoded result;
+                try {
+                    result = encode(png, test);
+                } catch (IOException | RuntimeException e) {
+                    if (existing == null) {
+                        savedByHash.remove(hash, saved);
+                        saved.complete(null);
+                    }
+                    throw e;
+                }
+                artifact = result.artifact;
+                if (existing == null) {
+                    if (result.stored) {
+                        saved.complete(artifact);
+                    } else {
+                        // Replaced by a similar image of this test: other tests must not get it for these bytes
+                        savedByHash.remove(hash, saved);
+                        saved.complete(null);
+                    }
+                }
+                if (result.similarTo != null) {
+                    String similar = " (similar to " + result.similarTo.getHash().substring(0, 12) + ")";
+                    caption = title != null ? title + similar : similar.trim();
+                }
+            }
+            test.addScreenshot(artifact.getReportPath(), caption);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not save screenshot for " + test.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Decode and downscale a PNG, then reuse a similar stored image of the same
+     * test or store it as JPEG
+     */
+    private static Encoded encode(byte[] png, ReportTest test) throws IOException {
+        long start = System.nanoTime();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("screenshot is not a readable image");
+        }
+        int maxWidth = Integer.parseInt(ConfigReader.getProperty("screenshot.max.width", "1280"));
+        BufferedImage scaled = downscale(image, maxWidth);
+
+        CompletableFuture<ArtifactStore.Artifact> claim = null;
+        ArtifactStore.ImageMatch match = null;
+        if (ArtifactStore.isSimilarImageEnabled()) {
+            claim = new CompletableFuture<>();
+            match = ArtifactStore.findOrClaimImage(ArtifactStore.differenceHash(scaled), test.getId(), claim);
+            if (match != null && match.isSameTest()) {
+                ArtifactStore.Artifact artifact = match.getArtifact();
+                ArtifactStore.reusedSimilar(artifact);
+                return new Encoded(artifact, false, null);
+            }
+        }
+
+        ArtifactStore.Artifact artifact;
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream(png.length / 4);
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Float.parseFloat(ConfigReader.getProperty("screenshot.jpeg.quality", "0.75")));
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(jpeg)) {
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(scaled, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            artifact = ArtifactStore.put(jpeg.toByteArray(), "jpg");
+            if (claim != null) {
+                claim.complete(artifact);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (claim != null) {
+                ArtifactStore.releaseImage(claim);
+                claim.completeExceptionally(e);
+            }
+            throw e;
+        }
+        encodeNanos.add(System.nanoTime() - start);
+        encoded.increment();
+        encodedBytes.add(jpeg.size());
+
+        ArtifactStore.Artifact similarTo = null;
+        if (match != null) {
+            try {
+                similarTo = match.getArtifact();
+            } catch (RuntimeException e) {
+                // The similar image failed to store; nothing to label
+            }
+        }
+        return new Encoded(artifact, true, similarTo);
+    }
+
+    /**
+     * Scale to at most maxWidth pixels wide, dropping the alpha channel JPEG cannot store
+     */
+    private static BufferedImage downscale(BufferedImage image, int maxWidth) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (maxWidth > 0 && width > maxWidth) {
+            height = Math.max(1, (int) Math.round((double) height * maxWidth / width));
+            width = maxWidth;
+        }
+        BufferedImage rgb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * Image attached for a screenshot: stored from its own pixels, or a similar
+     * image of the same test. similarTo names another test's look-alike.
+     */
+    private static class Encoded {
+        final ArtifactStore.Artifact artifact;
+        final boolean stored;
+        final ArtifactStore.Artifact similarTo;
+
+        Encoded(ArtifactStore.Artifact artifact, boolean stored, ArtifactStore.Artifact similarTo) {
+            this.artifact = artifact;
+            this.stored = stored;
+            this.similarTo = similarTo;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.automation.utils;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe accumulator for simple timing metrics (count, total, min, max)
+ */
+public class TimingStats {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator minMillis = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0L);
+
+    public TimingStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record a single measurement
+     * @param millis - measured duration in milliseconds
+     */
+    public void record(long millis) {
+        count.increment();
+        totalMillis.add(millis);
+        minMillis.accumulate(millis);
+        maxMillis.accumulate(millis);
+    }
+
+    /**
+     * Record the time elapsed since the given System.nanoTime() value
+     * @param startNanos - start time captured with System.nanoTime()
+     * @return elapsed time in milliseconds
+     */
+    public long recordSince(long startNanos) {
+        long millis = (System.nanoTime() - startNanos) / 1_000_000L;
+        record(millis);
+        return millis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalMillis() {
+        return totalMillis.sum();
+    }
+
+    public long getMinMillis() {
+        return getCount() == 0 ? 0 : minMillis.get();
+    }
+
+    public long getMaxMillis() {
+        return maxMillis.get();
+    }
+
+    public double getAverageMillis() {
+        long samples = getCount();
+        return samples == 0 ? 0.0 : (double) getTotalMillis() / samples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, avg=%.1fms, min=%dms, max=%dms, total=%dms",
+            name, getCount(), getAverageMillis(), getMinMillis(), getMaxMillis(), getTotalMillis());
+    }
+}
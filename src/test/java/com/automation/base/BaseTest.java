@@ -1,62 +1,162 @@
 package com.automation.base;
 
+import com.automation.datepicker.DatePickerRegistry;
+import com.automation.utils.ArtifactStore;
+import com.automation.utils.CommandLatencyRecorder;
 import com.automation.utils.ConfigReader;
 import com.automation.utils.DriverManager;
+import com.automation.utils.DriverPool;
 import com.automation.utils.ExtentManager;
-import com.aventstack.extentreports.ExtentTest;
+import com.automation.utils.LocatorStrategyCache;
+import com.automation.utils.NetworkReplay;
+import com.automation.utils.ReportTest;
+import com.automation.utils.ScreenshotCapture;
+import com.aventstack.extentreports.Status;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 import org.openqa.selenium.WebDriver;
 
+import java.lang.reflect.Method;
+
 /**
  * Base Test class containing common test setup and teardown
  * All test classes should extend this class
+ *
+ * The driver and extent test are kept per thread, so subclasses must use
+ * getDriver() and getTest() and avoid per-test state in instance fields when
+ * running with parallel.mode=methods.
  */
 public abstract class BaseTest {
-    
-    protected WebDriver driver;
-    protected ExtentTest test;
-    
+
+    @BeforeSuite(alwaysRun = true)
+    public void suiteSetup() {
+        DriverManager.warmUpPool(ConfigReader.getBrowser());
+    }
+
     @BeforeClass
     public void classSetup() {
         ConfigReader.loadProperties();
         ExtentManager.initializeReport();
     }
-    
+
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
         String browser = ConfigReader.getProperty("browser");
-        driver = DriverManager.getDriver(browser);
-        
-        String url = ConfigReader.getProperty("url");
-        driver.get(url);
-        
+        String testName = this.getClass().getSimpleName() + "." + method.getName();
+        CommandLatencyRecorder.startTest(testName);
+        WebDriver driver = DriverManager.getDriver(browser);
+        DomSettle.resetTestStats();
+
+        // Block, record or replay network traffic when configured
+        NetworkReplay.start(driver, testName);
+        NetworkReplay.loadPage(driver, getStartUrl());
+
         // Initialize extent test
-        test = ExtentManager.createTest(this.getClass().getSimpleName());
+        ExtentManager.createTest(testName);
+    }
+
+    /**
+     * URL opened before every test method; override for suites on a different site
+     */
+    protected String getStartUrl() {
+        return ConfigReader.getUrl();
     }
-    
+
+    /**
+     * End of method: depending on driver.lifecycle the session is reset and kept
+     * for the next method (reset-per-method), kept as is (quit-per-class), or
+     * released/quit (quit-per-method, the default)
+     */
     @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            DriverManager.quitDriver();
+    public void tearDown(ITestResult result) {
+        NetworkReplay.Stats networkStats = NetworkReplay.stop();
+        if (networkStats != null && getTest() != null) {
+            getTest().log(Status.INFO, "Network - " + networkStats);
+        }
+        String settleSummary = DomSettle.getTestSummary();
+        if (settleSummary != null && getTest() != null) {
+            getTest().log(Status.INFO, settleSummary);
+        }
+
+        if (getDriver() != null) {
+            String lifecycle = getDriverLifecycle();
+            if ("reset-per-method".equals(lifecycle)) {
+                if (!DriverManager.resetSession()) {
+                    DriverManager.quitDriver();
+                }
+            } else if (!"quit-per-class".equals(lifecycle)) {
+                DriverManager.releaseDriver();
+            }
+        }
+        String commandSummary = CommandLatencyRecorder.endTest();
+        if (commandSummary != null && getTest() != null) {
+            getTest().log(Status.INFO, commandSummary);
+        }
+        if (getTest() != null) {
+            endTest(getTest(), result);
+        }
+        ExtentManager.removeCurrentTest();
+    }
+
+    private void endTest(ReportTest test, ITestResult result) {
+        Throwable error = result.getThrowable();
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                test.end(Status.PASS, "Test passed");
+                break;
+            case ITestResult.SKIP:
+                test.end(Status.SKIP, "Test skipped" + (error != null ? ": " + error.getMessage() : ""));
+                break;
+            default:
+                test.end(Status.FAIL, "Test failed" + (error != null ? ": " + error : ""));
         }
     }
-    
+
     @AfterClass
     public void classTearDown() {
         ExtentManager.flushReport();
+        if (!"quit-per-method".equals(getDriverLifecycle())) {
+            DriverManager.releaseDriver();
+        }
     }
-    
+
+    @AfterSuite(alwaysRun = true)
+    public void suiteTearDown() {
+        DriverManager.quitAllDrivers();
+        DriverPool.shutdownAll();
+        System.out.println(DriverManager.getLifecycleSummary());
+        System.out.println(DomSettle.getSummary());
+        System.out.println(DatePickerRegistry.getSummary());
+        System.out.println(LocatorStrategyCache.getSummary());
+        LocatorStrategyCache.save();
+        CommandLatencyRecorder.writeReport();
+        CommandLatencyRecorder.publishToReport();
+        ScreenshotCapture.awaitPending();
+        System.out.println(ScreenshotCapture.getSummary());
+        System.out.println(ArtifactStore.getSummary());
+        ExtentManager.finishReport();
+        System.out.println(ExtentManager.getPipelineSummary());
+        if (NetworkReplay.isActive()) {
+            NetworkReplay.saveArchives();
+            System.out.println("Network - " + NetworkReplay.getRunStats());
+        }
+    }
+
+    private String getDriverLifecycle() {
+        return ConfigReader.getProperty("driver.lifecycle", "quit-per-method").toLowerCase();
+    }
+
     /**
      * Get current driver instance
      */
     public WebDriver getDriver() {
-        return driver;
+        return DriverManager.getCurrentDriver();
     }
-    
+
     /**
      * Get current extent test instance
      */
-    public ExtentTest getTest() {
-        return test;
+    public ReportTest getTest() {
+        return ExtentManager.getCurrentTest();
     }
 }
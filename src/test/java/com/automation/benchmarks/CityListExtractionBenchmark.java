@@ -0,0 +1,120 @@
+package com.automation.benchmarks;
+
+import com.automation.fixtures.FixtureServer;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DriverManager;
+import com.automation.utils.ElementTextExtractor;
+import com.automation.utils.TimingStats;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares reading a 1,000 entry city dropdown with findElements plus one
+ * getText() per element against ElementTextExtractor's single script call.
+ * Driver round trips are counted with a WebDriverListener.
+ *
+ * Run with: mvn test -Dtest=CityListExtractionBenchmark -Dbenchmark.iterations=10
+ */
+public class CityListExtractionBenchmark {
+
+    private static final int CITY_COUNT = 1000;
+    private static final By CITY_NAMES = By.xpath("//div[@data-testid='benchmark-dropdown']//div[@class='r-city-name']");
+
+    @Test(description = "Measure round trips and latency of per-element getText against bulk extraction")
+    public void benchmarkCityListExtraction() {
+        int iterations = Integer.getInteger("benchmark.iterations", 10);
+        RoundTripCounter counter = new RoundTripCounter();
+
+        FixtureServer server = FixtureServer.start();
+        server.addPage("/benchmark/dropdown.html", buildPage());
+        WebDriver rawDriver = DriverManager.createDriver(ConfigReader.getBrowser());
+        try {
+            WebDriver webDriver = new EventFiringDecorator<>(counter).decorate(rawDriver);
+            webDriver.get(server.url("/benchmark/dropdown.html"));
+
+            TimingStats before = new TimingStats("findElements + getText");
+            TimingStats after = new TimingStats("bulk extraction");
+            long beforeCalls = 0;
+            long afterCalls = 0;
+
+            for (int i = 0; i < iterations; i++) {
+                counter.reset();
+                long start = System.nanoTime();
+                List<String> expected = new ArrayList<>();
+                for (WebElement element : webDriver.findElements(CITY_NAMES)) {
+                    String text = element.getText().trim();
+                    if (!text.isEmpty()) {
+                        expected.add(text);
+                    }
+                }
+                before.recordSince(start);
+                beforeCalls += counter.get();
+
+                counter.reset();
+                start = System.nanoTime();
+                List<String> texts = ElementTextExtractor.getTexts(webDriver, CITY_NAMES);
+                after.recordSince(start);
+                afterCalls += counter.get();
+
+                Assert.assertEquals(texts, expected, "Bulk extraction returned different texts");
+                Assert.assertEquals(texts.size(), CITY_COUNT);
+            }
+
+            System.out.println("City list extraction benchmark (" + CITY_COUNT + " entries, " + iterations + " iterations)");
+            System.out.printf("  before: %s, %d round trips per read%n", before, beforeCalls / iterations);
+            System.out.printf("  after:  %s, %d round trips per read%n", after, afterCalls / iterations);
+            System.out.printf("  saved per read: %.1fms%n", before.getAverageMillis() - after.getAverageMillis());
+        } finally {
+            DriverManager.quitSession(rawDriver);
+            FixtureServer.stop();
+        }
+    }
+
+    private static String buildPage() {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html><html><head><meta charset=\"utf-8\">"
+            + "<title>City dropdown benchmark</title></head><body>"
+            + "<div data-testid=\"benchmark-dropdown\" style=\"height:300px;overflow-y:auto\">");
+        for (int i = 0; i < CITY_COUNT; i++) {
+            html.append("<div class=\"css-1dbjc4n r-city\" role=\"option\" data-code=\"C").append(i).append("\">")
+                .append("<div class=\"r-city-name\">City ").append(i).append("</div>")
+                .append("<div class=\"r-airport\">Airport ").append(i).append("</div>")
+                .append("</div>");
+        }
+        return html.append("</div></body></html>").toString();
+    }
+
+    /**
+     * Counts every call that goes to the driver (driver and element commands)
+     */
+    private static class RoundTripCounter implements WebDriverListener {
+        private final AtomicLong calls = new AtomicLong();
+
+        @Override
+        public void beforeAnyWebDriverCall(WebDriver driver, Method method, Object[] args) {
+            calls.incrementAndGet();
+        }
+
+        @Override
+        public void beforeAnyWebElementCall(WebElement element, Method method, Object[] args) {
+            calls.incrementAndGet();
+        }
+
+        void reset() {
+            calls.set(0);
+        }
+
+        long get() {
+            return calls.get();
+        }
+    }
+}
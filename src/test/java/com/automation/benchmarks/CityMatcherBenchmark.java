@@ -0,0 +1,146 @@
+package com.automation.benchmarks;
+
+import com.automation.fixtures.FixtureServer;
+import com.automation.utils.CitySelectionUtils;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DriverManager;
+import com.automation.utils.LocatorStrategyCache;
+import com.automation.utils.TimingStats;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Compares city lookup latency of the old per-strategy findElement path
+ * against the single injected matcher, on a generated fixture page with
+ * 500 cities. Lookups are chosen so the winning strategy ranges from the
+ * first one to a complete miss.
+ *
+ * Run with: mvn test -Dtest=CityMatcherBenchmark -Dbenchmark.iterations=20
+ */
+public class CityMatcherBenchmark {
+
+    private static final int CITY_COUNT = 500;
+    private static final String CONTAINER = "//div[@data-testid='benchmark-city-list']";
+    private static final String[] BASE_NAMES = {
+        "Alderport", "Brightwater", "Cedarfall", "Dunmore", "Eastwick",
+        "Fairhaven", "Glenrock", "Highbridge", "Ironvale", "Juniper"
+    };
+
+    @Test(description = "Measure city lookup latency of sequential strategies against the injected matcher")
+    public void benchmarkCityLookup() {
+        int iterations = Integer.getInteger("benchmark.iterations", 20);
+        String last = cityName(CITY_COUNT - 1);
+        String[][] lookups = {
+            {"exact text", last},
+            {"case insensitive", last.toLowerCase()},
+            {"data attribute", "slug-" + (CITY_COUNT - 1)},
+            {"miss", "Atlantis"}
+        };
+
+        FixtureServer server = FixtureServer.start();
+        server.addPage("/benchmark/cities.html", buildPage());
+        WebDriver webDriver = DriverManager.createDriver(ConfigReader.getBrowser());
+        // Both paths must use the default strategy order to return the same element
+        String previousCacheSetting = System.getProperty("locator.cache.enabled");
+        System.setProperty("locator.cache.enabled", "false");
+        try {
+            webDriver.get(server.url("/benchmark/cities.html"));
+            CitySelectionUtils cityUtils = new CitySelectionUtils(webDriver);
+
+            TimingStats beforeTotal = new TimingStats("sequential strategies");
+            TimingStats afterTotal = new TimingStats("injected matcher");
+            System.out.println("City lookup benchmark (" + CITY_COUNT + " cities, " + iterations + " iterations)");
+
+            for (String[] lookup : lookups) {
+                TimingStats before = new TimingStats("sequential");
+                TimingStats after = new TimingStats("injected");
+                CitySelectionUtils.CityMatch match = null;
+
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    WebElement expected = cityUtils.findCityElementByTextSequential(lookup[1], CONTAINER);
+                    beforeTotal.record(before.recordSince(start));
+
+                    start = System.nanoTime();
+                    match = cityUtils.findCityMatch(lookup[1], CONTAINER);
+                    afterTotal.record(after.recordSince(start));
+
+                    Assert.assertEquals(match != null ? match.getElement() : null, expected,
+                        "Matcher and sequential lookup disagree for " + lookup[1]);
+                }
+
+                System.out.printf("  %-16s %s | %s | matched by: %s%n", lookup[0], before, after,
+                    match != null ? match.getStrategy() : "none");
+            }
+
+            System.out.println("  before: " + beforeTotal);
+            System.out.println("  after:  " + afterTotal);
+            System.out.printf("  saved per lookup: %.1fms%n",
+                beforeTotal.getAverageMillis() - afterTotal.getAverageMillis());
+
+            benchmarkLearnedRanking(cityUtils, "slug-" + (CITY_COUNT - 1), iterations);
+        } finally {
+            if (previousCacheSetting == null) {
+                System.clearProperty("locator.cache.enabled");
+            } else {
+                System.setProperty("locator.cache.enabled", previousCacheSetting);
+            }
+            LocatorStrategyCache.reset();
+            DriverManager.quitSession(webDriver);
+            FixtureServer.stop();
+        }
+    }
+
+    /**
+     * Repeat a lookup that only the data attribute strategy answers, with the
+     * default order and with the order learned by LocatorStrategyCache
+     */
+    private static void benchmarkLearnedRanking(CitySelectionUtils cityUtils, String cityName, int iterations) {
+        TimingStats fixedOrder = new TimingStats("fixed order");
+        TimingStats learnedOrder = new TimingStats("learned order");
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            cityUtils.findCityMatch(cityName, CONTAINER);
+            fixedOrder.recordSince(start);
+        }
+
+        System.setProperty("locator.cache.enabled", "true");
+        LocatorStrategyCache.reset();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            CitySelectionUtils.CityMatch match = cityUtils.findCityMatch(cityName, CONTAINER);
+            learnedOrder.recordSince(start);
+            Assert.assertNotNull(match, "Ranked lookup lost " + cityName);
+        }
+        long hits = LocatorStrategyCache.getHits(CitySelectionUtils.class, "city option");
+        long misses = LocatorStrategyCache.getMisses(CitySelectionUtils.class, "city option");
+        Assert.assertEquals(misses, 1, "Only the first lookup should miss once the ranking is learned");
+
+        System.out.println("  data attribute lookup, fixed order: " + fixedOrder);
+        System.out.println("  data attribute lookup, learned order: " + learnedOrder
+            + " (" + hits + " hits/" + misses + " misses)");
+    }
+
+    private static String cityName(int index) {
+        return String.format("%s %03d", BASE_NAMES[index % BASE_NAMES.length], index);
+    }
+
+    private static String buildPage() {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html><html><head><meta charset=\"utf-8\">"
+            + "<title>City lookup benchmark</title></head><body>"
+            + "<div data-testid=\"benchmark-city-list\">");
+        for (int i = 0; i < CITY_COUNT; i++) {
+            String name = cityName(i);
+            String code = String.format("C%02d", i % 100);
+            html.append("<div class=\"css-1dbjc4n r-city\" role=\"option\" data-city=\"slug-").append(i)
+                .append("\" aria-label=\"").append(code).append(" airport\">")
+                .append("<div>").append(code).append("</div>")
+                .append("<div><div class=\"r-city-name\">").append(name).append("</div>")
+                .append("<div class=\"r-airport\">").append(code).append(" International Airport</div></div>")
+                .append("</div>");
+        }
+        return html.append("</div></body></html>").toString();
+    }
+}
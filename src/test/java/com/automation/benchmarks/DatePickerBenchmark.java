@@ -0,0 +1,194 @@
+package com.automation.benchmarks;
+
+import com.automation.datepicker.DatePickerRegistry;
+import com.automation.examples.CalendarAutomationExample;
+import com.automation.fixtures.FixtureServer;
+import com.automation.fixtures.FixtureSuiteListener;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DriverManager;
+import com.automation.utils.TimingStats;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs every calendar example in CalendarAutomationExample against its fixture
+ * widget, then selects the same dates through DatePickerRegistry with UI clicks
+ * (datepicker.fast.path=false) and with the engine's fast path. The examples are
+ * timed and reported as they are; the registry results are asserted.
+ *
+ * Run with: mvn test -Dtest=DatePickerBenchmark -Dbenchmark.iterations=5
+ */
+public class DatePickerBenchmark {
+
+    private static final DateTimeFormatter US = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    @Test(description = "Compare the calendar examples with the date picker engines' click and fast paths")
+    public void benchmarkDatePickers() {
+        int iterations = Integer.getInteger("benchmark.iterations", 5);
+        List<LocalDate> targets = new ArrayList<>();
+        targets.add(LocalDate.now().plusDays(7));
+        targets.add(LocalDate.now().plusMonths(2));
+
+        FixtureServer server = FixtureServer.start();
+        FixtureSuiteListener.redirectToFixtures(server);
+        WebDriver driver = DriverManager.createDriver(ConfigReader.getBrowser());
+        String previousFastPath = System.getProperty("datepicker.fast.path");
+        try {
+            CalendarAutomationExample examples = new CalendarAutomationExample(driver);
+            System.out.println("Date picker benchmark (" + iterations + " iterations, targets " + targets + ")");
+
+            for (Case c : buildCases(examples)) {
+                TimingStats example = new TimingStats(c.name + " example");
+                TimingStats clicks = new TimingStats(c.name + " clicks");
+                TimingStats fast = new TimingStats(c.name + " fast path");
+                int examplePasses = 0;
+
+                for (int i = 0; i < iterations; i++) {
+                    for (LocalDate target : targets) {
+                        long start;
+                        if (c.example != null) {
+                            driver.get(server.url(c.path));
+                            start = System.nanoTime();
+                            c.example.accept(driver, target);
+                            example.recordSince(start);
+                            LocalDate exampleDate = c.exampleDate != null ? c.exampleDate : target;
+                            if (c.expectedValue.apply(exampleDate).equals(readValue(driver, c.valueLocator))) {
+                                examplePasses++;
+                            }
+                        }
+
+                        System.setProperty("datepicker.fast.path", "false");
+                        driver.get(server.url(c.path));
+                        start = System.nanoTime();
+                        c.select(driver, target);
+                        clicks.recordSince(start);
+                        Assert.assertEquals(readValue(driver, c.valueLocator), c.expectedValue.apply(target),
+                            c.name + " click path selected the wrong date");
+
+                        System.setProperty("datepicker.fast.path", "true");
+                        driver.get(server.url(c.path));
+                        start = System.nanoTime();
+                        c.select(driver, target);
+                        fast.recordSince(start);
+                        Assert.assertEquals(readValue(driver, c.valueLocator), c.expectedValue.apply(target),
+                            c.name + " fast path selected the wrong date");
+                    }
+                }
+
+                if (c.example != null) {
+                    System.out.printf("  %-18s example: %s (%d/%d correct)%n", c.name, example,
+                        examplePasses, iterations * targets.size());
+                } else {
+                    System.out.printf("  %-18s example: none%n", c.name);
+                }
+                System.out.printf("  %-18s registry: %s, %s%n", "", clicks, fast);
+            }
+            System.out.println("  " + DatePickerRegistry.getSummary());
+        } finally {
+            if (previousFastPath == null) {
+                System.clearProperty("datepicker.fast.path");
+            } else {
+                System.setProperty("datepicker.fast.path", previousFastPath);
+            }
+            DriverManager.quitSession(driver);
+            FixtureSuiteListener.restoreUrls();
+            FixtureServer.stop();
+        }
+    }
+
+    private static List<Case> buildCases(CalendarAutomationExample examples) {
+        List<Case> cases = new ArrayList<>();
+
+        cases.add(new Case("jquery-ui", "/calendars/jquery-ui.html", By.id("datepicker"), By.id("datepicker"),
+            date -> date.format(US),
+            (driver, date) -> examples.basicDatePickerExample(date.getDayOfMonth(),
+                date.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH), date.getYear())));
+
+        cases.add(new Case("custom", "/calendars/custom.html", By.className("calendar-trigger"), By.id("custom-date"),
+            LocalDate::toString, (driver, date) -> examples.customCalendarExample(date)));
+
+        cases.add(new Case("bootstrap", "/calendars/bootstrap.html", By.id("bootstrap-date"), By.id("bootstrap-date"),
+            date -> date.format(US), (driver, date) -> examples.bootstrapDatePickerExample(date)));
+
+        cases.add(new Case("react-datepicker", "/calendars/react.html", By.cssSelector("[data-testid='date-picker']"),
+            By.cssSelector("[data-testid='date-picker']"), date -> date.format(US),
+            (driver, date) -> examples.modernDatePickerExample(date)));
+
+        Case range = new Case("date range", "/calendars/daterange.html", By.className("daterange-input"),
+            By.className("daterange-input"), date -> date.format(US) + " - " + date.plusDays(3).format(US),
+            (driver, date) -> examples.dateRangePickerExample(date, date.plusDays(3)));
+        range.selector = (driver, date) -> {
+            DatePickerRegistry.selectDate(driver, driver.findElement(By.className("daterange-input")), date);
+            DatePickerRegistry.selectDate(driver, null, date.plusDays(3));
+            driver.findElement(By.xpath("//button[text()='Apply']")).click();
+        };
+        cases.add(range);
+
+        cases.add(new Case("native", "/calendars/native.html", By.id("travel-date"), By.id("travel-date"),
+            LocalDate::toString, (driver, date) -> examples.mobileCalendarExample(date)));
+
+        Case booking = new Case("spicejet booking", "/spicejet/booking.html", By.id("ctl00_mainContent_view_date1"),
+            By.id("ctl00_mainContent_date1"), LocalDate::toString,
+            (driver, date) -> examples.spiceJetBookingExample());
+        booking.exampleDate = LocalDate.now().plusDays(7);
+        cases.add(booking);
+
+        // React calendar of the SpiceJet home page, used by SpiceJetCalendarUtils (no example method)
+        cases.add(new Case("spicejet home", "/spicejet/", By.xpath("//div[@data-testid='departure-date-dropdown-label-test-id']"),
+            By.id("departureValue"), date -> date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH).substring(0, 2)
+                + ", " + date.format(DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH)),
+            null));
+
+        return cases;
+    }
+
+    private static String readValue(WebDriver driver, By locator) {
+        WebElement element = driver.findElement(locator);
+        String tag = element.getTagName();
+        return "input".equalsIgnoreCase(tag) ? element.getAttribute("value") : element.getText().trim();
+    }
+
+    /**
+     * One calendar example with its fixture page, date field and where the picked date shows up
+     */
+    private static class Case {
+        final String name;
+        final String path;
+        final By field;
+        final By valueLocator;
+        final Function<LocalDate, String> expectedValue;
+        final BiConsumer<WebDriver, LocalDate> example; // null if CalendarAutomationExample has none
+        BiConsumer<WebDriver, LocalDate> selector;
+        LocalDate exampleDate;
+
+        Case(String name, String path, By field, By valueLocator, Function<LocalDate, String> expectedValue,
+             BiConsumer<WebDriver, LocalDate> example) {
+            this.name = name;
+            this.path = path;
+            this.field = field;
+            this.valueLocator = valueLocator;
+            this.expectedValue = expectedValue;
+            this.example = example;
+        }
+
+        void select(WebDriver driver, LocalDate date) {
+            if (selector != null) {
+                selector.accept(driver, date);
+            } else {
+                DatePickerRegistry.selectDate(driver, driver.findElement(field), date);
+            }
+        }
+    }
+}
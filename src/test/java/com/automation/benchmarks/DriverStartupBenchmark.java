@@ -0,0 +1,67 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DriverBinaryResolver;
+import com.automation.utils.DriverManager;
+import com.automation.utils.TimingStats;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+/**
+ * Startup-time benchmark comparing per-session driver creation latency when
+ * WebDriverManager runs for every session (old behaviour) against the cached,
+ * manifest-backed DriverBinaryResolver.
+ *
+ * Run with: mvn test -Dtest=DriverStartupBenchmark -Dbenchmark.sessions=5
+ */
+public class DriverStartupBenchmark {
+
+    @Test(description = "Measure driver creation latency before and after resolution caching")
+    public void benchmarkDriverStartup() {
+        String browser = ConfigReader.getBrowser();
+        int sessions = Integer.getInteger("benchmark.sessions", 5);
+
+        TimingStats before = new TimingStats("per-session setup() + launch");
+        TimingStats after = new TimingStats("cached resolution + launch");
+
+        for (int i = 0; i < sessions; i++) {
+            long start = System.nanoTime();
+            setupWithWebDriverManager(browser);
+            WebDriver webDriver = DriverManager.createDriver(browser);
+            before.recordSince(start);
+            DriverManager.quitSession(webDriver);
+        }
+
+        DriverBinaryResolver.clearCache();
+        for (int i = 0; i < sessions; i++) {
+            long start = System.nanoTime();
+            DriverBinaryResolver.resolve(browser);
+            WebDriver webDriver = DriverManager.createDriver(browser);
+            after.recordSince(start);
+            DriverManager.quitSession(webDriver);
+        }
+
+        System.out.println("Driver startup benchmark (" + browser + ", " + sessions + " sessions)");
+        System.out.println("  before: " + before);
+        System.out.println("  after:  " + after);
+        System.out.println("  " + DriverBinaryResolver.getResolutionStats());
+        System.out.printf("  saved per session: %.1fms%n", before.getAverageMillis() - after.getAverageMillis());
+    }
+
+    private void setupWithWebDriverManager(String browser) {
+        switch (browser.toLowerCase()) {
+            case "chrome":
+                WebDriverManager.chromedriver().setup();
+                break;
+            case "firefox":
+                WebDriverManager.firefoxdriver().setup();
+                break;
+            case "edge":
+                WebDriverManager.edgedriver().setup();
+                break;
+            default:
+                break;
+        }
+    }
+}
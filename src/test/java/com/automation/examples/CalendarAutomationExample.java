@@ -1,6 +1,7 @@
 package com.automation.examples;
 
 import com.automation.utils.CalendarUtils;
+import com.automation.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -297,8 +298,8 @@ public class CalendarAutomationExample {
      */
     public void spiceJetBookingExample() {
         try {
-            // Navigate to SpiceJet
-            driver.get("https://www.spicejet.com/");
+            // Navigate to SpiceJet (booking.url points at the local replica when fixtures are enabled)
+            driver.get(ConfigReader.getProperty("booking.url", "https://www.spicejet.com/"));
             
             // Select trip type
             WebElement roundTrip = driver.findElement(By.id("ctl00_mainContent_rbtnl_Trip_1"));
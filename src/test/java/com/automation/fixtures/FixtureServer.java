@@ -0,0 +1,130 @@
+package com.automation.fixtures;
+
+import com.automation.utils.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server that serves the static fixture pages under
+ * src/test/resources/fixtures, so tests can run against a local site
+ * without network access
+ */
+public class FixtureServer {
+
+    private static final String RESOURCE_ROOT = "/fixtures";
+    private static FixtureServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> dynamicPages = new ConcurrentHashMap<>();
+
+    private FixtureServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Start the shared fixture server on a free port (no-op if already running)
+     * @return running server
+     */
+    public static synchronized FixtureServer start() {
+        if (instance == null) {
+            try {
+                instance = new FixtureServer(Integer.parseInt(ConfigReader.getProperty("fixture.port", "0")));
+                instance.server.start();
+                System.out.println("Fixture server started at " + instance.getBaseUrl());
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start fixture server: " + e.getMessage(), e);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stop the shared fixture server
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            instance = null;
+        }
+    }
+
+    /**
+     * Base URL of the server, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Absolute URL of a fixture page
+     * @param path - path below the fixtures root, e.g. "/login.html"
+     */
+    public String url(String path) {
+        return getBaseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    /**
+     * Serve generated content at the given path (e.g. large synthetic pages for benchmarks)
+     */
+    public void addPage(String path, String html) {
+        dynamicPages.put(path, html.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/")) {
+            path += "index.html";
+        }
+
+        byte[] body = dynamicPages.get(path);
+        if (body == null) {
+            try (InputStream in = FixtureServer.class.getResourceAsStream(RESOURCE_ROOT + path)) {
+                body = in != null ? in.readAllBytes() : null;
+            }
+        }
+
+        if (body == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", getContentType(path));
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String getContentType(String path) {
+        if (path.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        } else if (path.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        } else if (path.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        } else if (path.endsWith(".json")) {
+            return "application/json; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+}
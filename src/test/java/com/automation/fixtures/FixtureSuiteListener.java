@@ -0,0 +1,85 @@
+package com.automation.fixtures;
+
+import com.automation.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Suite listener that starts the embedded FixtureServer once per suite and points
+ * url, booking.url and login.url at the local replicas, so the SpiceJet and Login
+ * tests run without network access. Enabled with fixture.enabled=true
+ * (config.properties or -Dfixture.enabled=true).
+ */
+public class FixtureSuiteListener implements ISuiteListener {
+
+    private static final Map<String, String> FIXTURE_PAGES = new LinkedHashMap<>();
+    private static final Map<String, String> previousValues = new HashMap<>();
+    private static int activeSuites;
+
+    static {
+        FIXTURE_PAGES.put("url", "/spicejet/");
+        FIXTURE_PAGES.put("booking.url", "/spicejet/booking.html");
+        FIXTURE_PAGES.put("login.url", "/login.html");
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (FixtureSuiteListener.class) {
+            if (activeSuites++ == 0) {
+                redirectToFixtures(FixtureServer.start());
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (FixtureSuiteListener.class) {
+            if (activeSuites > 0 && --activeSuites == 0) {
+                restoreUrls();
+                FixtureServer.stop();
+            }
+        }
+    }
+
+    /**
+     * Check if suites should run against the local fixture site
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("fixture.enabled", "false"));
+    }
+
+    /**
+     * Point the application URLs at the given fixture server
+     * @param server - running fixture server
+     */
+    public static synchronized void redirectToFixtures(FixtureServer server) {
+        for (Map.Entry<String, String> page : FIXTURE_PAGES.entrySet()) {
+            if (!previousValues.containsKey(page.getKey())) {
+                previousValues.put(page.getKey(), System.getProperty(page.getKey()));
+            }
+            System.setProperty(page.getKey(), server.url(page.getValue()));
+        }
+        System.out.println("Application URLs redirected to fixture server: " + server.url("/spicejet/"));
+    }
+
+    /**
+     * Restore the application URLs overridden by redirectToFixtures
+     */
+    public static synchronized void restoreUrls() {
+        for (Map.Entry<String, String> previous : previousValues.entrySet()) {
+            if (previous.getValue() == null) {
+                System.clearProperty(previous.getKey());
+            } else {
+                System.setProperty(previous.getKey(), previous.getValue());
+            }
+        }
+        previousValues.clear();
+    }
+}
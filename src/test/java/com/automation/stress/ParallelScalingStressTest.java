@@ -0,0 +1,120 @@
+package com.automation.stress;
+
+import com.automation.fixtures.FixtureServer;
+import com.automation.fixtures.FixtureSuiteListener;
+import com.automation.listeners.ParallelExecutionListener;
+import com.automation.tests.LoginTest;
+import com.automation.tests.SpiceJetHybridE2ETest;
+import com.automation.utils.BrowserCapacity;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Stress suite that runs the Login and SpiceJet tests against the local fixture
+ * site at 1, 2, 4 and 8 threads and reports how throughput scales. Efficiency
+ * is computed from the thread count the suite actually ran with, which
+ * ParallelExecutionListener may have capped to the BrowserCapacity limit.
+ *
+ * Run with: mvn test -Pstress
+ */
+public class ParallelScalingStressTest {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+    private static final int ROUNDS_PER_LEVEL = Integer.getInteger("stress.rounds", 2);
+
+    private long lastWallMillis;
+    private int lastEffectiveThreads;
+
+    @Test(description = "Measure test throughput at 1, 2, 4 and 8 threads")
+    public void measureThroughputScaling() throws IOException {
+        FixtureSuiteListener.redirectToFixtures(FixtureServer.start());
+        System.setProperty("parallel.tests", "true");
+        System.setProperty("parallel.mode", "methods");
+        System.setProperty("parallel.data.providers", "true");
+
+        Path report = Paths.get("test-output", "stress", "parallel-scaling.csv");
+        Files.createDirectories(report.getParent());
+
+        double baseline = 0;
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(report))) {
+            csv.println("requestedThreads,threads,tests,passed,failed,skipped,wallMillis,testsPerSecond,speedup,"
+                + "efficiency");
+            System.out.println("threads (requested) | tests | wall(ms) | tests/s | speedup | efficiency");
+
+            for (int threads : THREAD_COUNTS) {
+                TestListenerAdapter results = runSuite(threads);
+                int tests = results.getPassedTests().size() + results.getFailedTests().size()
+                    + results.getSkippedTests().size();
+                long wallMillis = lastWallMillis;
+                int effectiveThreads = lastEffectiveThreads;
+                double throughput = wallMillis == 0 ? 0 : tests * 1000.0 / wallMillis;
+                if (threads == 1) {
+                    baseline = throughput;
+                }
+                double speedup = baseline == 0 ? 0 : throughput / baseline;
+                double efficiency = speedup / effectiveThreads;
+
+                csv.printf("%d,%d,%d,%d,%d,%d,%d,%.3f,%.2f,%.2f%n", threads, effectiveThreads, tests,
+                    results.getPassedTests().size(), results.getFailedTests().size(),
+                    results.getSkippedTests().size(), wallMillis, throughput, speedup, efficiency);
+                System.out.printf("%7d (%9d) | %5d | %8d | %7.2f | %7.2f | %9.0f%%%n",
+                    effectiveThreads, threads, tests, wallMillis, throughput, speedup, efficiency * 100);
+            }
+        } finally {
+            FixtureServer.stop();
+            FixtureSuiteListener.restoreUrls();
+            for (String key : Arrays.asList("parallel.tests", "parallel.mode",
+                    "parallel.data.providers", "thread.count", "driver.pool.size")) {
+                System.clearProperty(key);
+            }
+        }
+        System.out.println("Scaling report written to " + report.toAbsolutePath());
+    }
+
+    private TestListenerAdapter runSuite(int threads) {
+        System.setProperty("thread.count", String.valueOf(threads));
+        System.setProperty("driver.pool.size", String.valueOf(threads));
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Parallel Stress x" + threads);
+
+        for (int round = 1; round <= ROUNDS_PER_LEVEL; round++) {
+            XmlTest test = new XmlTest(suite);
+            test.setName("Stress round " + round);
+            test.setXmlClasses(Arrays.asList(
+                new XmlClass(LoginTest.class),
+                new XmlClass(SpiceJetHybridE2ETest.class)));
+        }
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG();
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.addListener(new ParallelExecutionListener());
+        testng.addListener(results);
+
+        long start = System.nanoTime();
+        testng.run();
+        lastWallMillis = (System.nanoTime() - start) / 1_000_000L;
+        // ParallelExecutionListener altered this suite in place, capping it to BrowserCapacity
+        lastEffectiveThreads = Math.max(1, Math.min(suite.getThreadCount(), BrowserCapacity.getMaxBrowsers()));
+        return results;
+    }
+
+    public static void main(String[] args) throws IOException {
+        new ParallelScalingStressTest().measureThroughputScaling();
+    }
+}
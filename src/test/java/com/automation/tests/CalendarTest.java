@@ -1,6 +1,7 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.utils.ConfigReader;
 import com.automation.pages.SpiceJetBookingPage;
 import com.automation.utils.CalendarUtils;
 import com.aventstack.extentreports.Status;
@@ -15,101 +16,101 @@ import java.time.LocalDate;
  */
 public class CalendarTest extends BaseTest {
     
-    private SpiceJetBookingPage bookingPage;
-    private CalendarUtils calendarUtils;
+    private final ThreadLocal<SpiceJetBookingPage> bookingPage = new ThreadLocal<>();
+    private final ThreadLocal<CalendarUtils> calendarUtils = new ThreadLocal<>();
     
     @BeforeMethod
     public void setupTest() {
-        // Navigate to SpiceJet (update URL in config.properties)
-        driver.get("https://www.spicejet.com/");
-        bookingPage = new SpiceJetBookingPage(driver);
-        calendarUtils = new CalendarUtils(driver);
+        // Navigate to the SpiceJet booking form (update booking.url in config.properties)
+        getDriver().get(ConfigReader.getProperty("booking.url", ConfigReader.getUrl()));
+        bookingPage.set(new SpiceJetBookingPage(getDriver()));
+        calendarUtils.set(new CalendarUtils(getDriver()));
     }
     
     @Test(priority = 1, description = "Test selecting departure date from calendar")
     public void testSelectDepartureDate() {
-        test.log(Status.INFO, "Starting departure date selection test");
+        getTest().log(Status.INFO, "Starting departure date selection test");
         
         try {
             // Select departure date (next week)
             LocalDate departureDate = LocalDate.now().plusDays(7);
-            bookingPage.selectDepartureDate(departureDate);
+            bookingPage.get().selectDepartureDate(departureDate);
             
-            test.log(Status.PASS, "Successfully selected departure date: " + departureDate);
+            getTest().log(Status.PASS, "Successfully selected departure date: " + departureDate);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select departure date: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select departure date: " + e.getMessage());
             Assert.fail("Departure date selection failed");
         }
     }
     
     @Test(priority = 2, description = "Test selecting return date from calendar")
     public void testSelectReturnDate() {
-        test.log(Status.INFO, "Starting return date selection test");
+        getTest().log(Status.INFO, "Starting return date selection test");
         
         try {
             // First select round trip
-            bookingPage.selectRoundTrip();
+            bookingPage.get().selectRoundTrip();
             
             // Select departure date
             LocalDate departureDate = LocalDate.now().plusDays(7);
-            bookingPage.selectDepartureDate(departureDate);
+            bookingPage.get().selectDepartureDate(departureDate);
             
             // Select return date (2 weeks from now)
             LocalDate returnDate = LocalDate.now().plusDays(14);
-            bookingPage.selectReturnDate(returnDate);
+            bookingPage.get().selectReturnDate(returnDate);
             
-            test.log(Status.PASS, "Successfully selected return date: " + returnDate);
+            getTest().log(Status.PASS, "Successfully selected return date: " + returnDate);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select return date: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select return date: " + e.getMessage());
             Assert.fail("Return date selection failed");
         }
     }
     
     @Test(priority = 3, description = "Test selecting specific date with day, month, year")
     public void testSelectSpecificDate() {
-        test.log(Status.INFO, "Starting specific date selection test");
+        getTest().log(Status.INFO, "Starting specific date selection test");
         
         try {
             // Select a specific date: 15th September 2025
-            bookingPage.selectDepartureDate(15, "SEPTEMBER", 2025);
+            bookingPage.get().selectDepartureDate(15, "SEPTEMBER", 2025);
             
-            test.log(Status.PASS, "Successfully selected specific date: 15 September 2025");
+            getTest().log(Status.PASS, "Successfully selected specific date: 15 September 2025");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select specific date: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select specific date: " + e.getMessage());
             Assert.fail("Specific date selection failed");
         }
     }
     
     @Test(priority = 4, description = "Test selecting dates in different months")
     public void testSelectDatesInDifferentMonths() {
-        test.log(Status.INFO, "Starting different months date selection test");
+        getTest().log(Status.INFO, "Starting different months date selection test");
         
         try {
-            bookingPage.selectRoundTrip();
+            bookingPage.get().selectRoundTrip();
             
             // Select departure date in next month
             LocalDate departureDate = LocalDate.now().plusMonths(1).withDayOfMonth(10);
-            bookingPage.selectDepartureDate(departureDate);
+            bookingPage.get().selectDepartureDate(departureDate);
             
             // Select return date in the month after that
             LocalDate returnDate = LocalDate.now().plusMonths(2).withDayOfMonth(20);
-            bookingPage.selectReturnDate(returnDate);
+            bookingPage.get().selectReturnDate(returnDate);
             
-            test.log(Status.PASS, "Successfully selected dates in different months");
-            test.log(Status.INFO, "Departure: " + departureDate + ", Return: " + returnDate);
+            getTest().log(Status.PASS, "Successfully selected dates in different months");
+            getTest().log(Status.INFO, "Departure: " + departureDate + ", Return: " + returnDate);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select dates in different months: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select dates in different months: " + e.getMessage());
             Assert.fail("Different months date selection failed");
         }
     }
     
     @Test(priority = 5, description = "Test complete booking flow with calendar")
     public void testCompleteBookingFlow() {
-        test.log(Status.INFO, "Starting complete booking flow test");
+        getTest().log(Status.INFO, "Starting complete booking flow test");
         
         try {
             // Define travel details
@@ -119,14 +120,14 @@ public class CalendarTest extends BaseTest {
             LocalDate returnDate = LocalDate.now().plusDays(17);
             
             // Complete the booking form
-            bookingPage.completeBookingForm(origin, destination, departureDate, returnDate);
+            bookingPage.get().completeBookingForm(origin, destination, departureDate, returnDate);
             
-            test.log(Status.PASS, "Successfully completed booking flow");
-            test.log(Status.INFO, "Origin: " + origin + ", Destination: " + destination);
-            test.log(Status.INFO, "Departure: " + departureDate + ", Return: " + returnDate);
+            getTest().log(Status.PASS, "Successfully completed booking flow");
+            getTest().log(Status.INFO, "Origin: " + origin + ", Destination: " + destination);
+            getTest().log(Status.INFO, "Departure: " + departureDate + ", Return: " + returnDate);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to complete booking flow: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to complete booking flow: " + e.getMessage());
             Assert.fail("Complete booking flow failed");
         }
     }
@@ -134,40 +135,40 @@ public class CalendarTest extends BaseTest {
     @Test(dataProvider = "dateTestData", priority = 6, 
           description = "Test calendar with multiple date combinations")
     public void testMultipleDateCombinations(int daysFromToday, boolean isRoundTrip) {
-        test.log(Status.INFO, "Testing date combination: " + daysFromToday + " days from today, Round trip: " + isRoundTrip);
+        getTest().log(Status.INFO, "Testing date combination: " + daysFromToday + " days from today, Round trip: " + isRoundTrip);
         
         try {
             if (isRoundTrip) {
-                bookingPage.selectRoundTrip();
+                bookingPage.get().selectRoundTrip();
                 
                 // Select departure date
                 LocalDate departureDate = LocalDate.now().plusDays(daysFromToday);
-                bookingPage.selectDepartureDate(departureDate);
+                bookingPage.get().selectDepartureDate(departureDate);
                 
                 // Select return date (7 days after departure)
                 LocalDate returnDate = departureDate.plusDays(7);
-                bookingPage.selectReturnDate(returnDate);
+                bookingPage.get().selectReturnDate(returnDate);
                 
-                test.log(Status.PASS, "Round trip dates selected successfully");
+                getTest().log(Status.PASS, "Round trip dates selected successfully");
             } else {
-                bookingPage.selectOneWayTrip();
+                bookingPage.get().selectOneWayTrip();
                 
                 // Select departure date
                 LocalDate departureDate = LocalDate.now().plusDays(daysFromToday);
-                bookingPage.selectDepartureDate(departureDate);
+                bookingPage.get().selectDepartureDate(departureDate);
                 
-                test.log(Status.PASS, "One way date selected successfully");
+                getTest().log(Status.PASS, "One way date selected successfully");
             }
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select date combination: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select date combination: " + e.getMessage());
             Assert.fail("Date combination test failed");
         }
     }
     
     @Test(priority = 7, description = "Test selecting weekend dates")
     public void testSelectWeekendDates() {
-        test.log(Status.INFO, "Starting weekend dates selection test");
+        getTest().log(Status.INFO, "Starting weekend dates selection test");
         
         try {
             // Find next Saturday
@@ -179,22 +180,22 @@ public class CalendarTest extends BaseTest {
             // Find following Sunday
             LocalDate nextSunday = nextSaturday.plusDays(1);
             
-            bookingPage.selectRoundTrip();
-            bookingPage.selectDepartureDate(nextSaturday);
-            bookingPage.selectReturnDate(nextSunday);
+            bookingPage.get().selectRoundTrip();
+            bookingPage.get().selectDepartureDate(nextSaturday);
+            bookingPage.get().selectReturnDate(nextSunday);
             
-            test.log(Status.PASS, "Successfully selected weekend dates");
-            test.log(Status.INFO, "Saturday: " + nextSaturday + ", Sunday: " + nextSunday);
+            getTest().log(Status.PASS, "Successfully selected weekend dates");
+            getTest().log(Status.INFO, "Saturday: " + nextSaturday + ", Sunday: " + nextSunday);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select weekend dates: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select weekend dates: " + e.getMessage());
             Assert.fail("Weekend dates selection failed");
         }
     }
     
     @Test(priority = 8, description = "Test selecting dates across year boundary")
     public void testSelectDatesAcrossYear() {
-        test.log(Status.INFO, "Starting year boundary dates selection test");
+        getTest().log(Status.INFO, "Starting year boundary dates selection test");
         
         try {
             // Select date in December of current year
@@ -203,15 +204,15 @@ public class CalendarTest extends BaseTest {
             // Select date in January of next year
             LocalDate januaryDate = LocalDate.now().plusYears(1).withMonth(1).withDayOfMonth(5);
             
-            bookingPage.selectRoundTrip();
-            bookingPage.selectDepartureDate(decemberDate);
-            bookingPage.selectReturnDate(januaryDate);
+            bookingPage.get().selectRoundTrip();
+            bookingPage.get().selectDepartureDate(decemberDate);
+            bookingPage.get().selectReturnDate(januaryDate);
             
-            test.log(Status.PASS, "Successfully selected dates across year boundary");
-            test.log(Status.INFO, "December: " + decemberDate + ", January: " + januaryDate);
+            getTest().log(Status.PASS, "Successfully selected dates across year boundary");
+            getTest().log(Status.INFO, "December: " + decemberDate + ", January: " + januaryDate);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Failed to select dates across year: " + e.getMessage());
+            getTest().log(Status.FAIL, "Failed to select dates across year: " + e.getMessage());
             Assert.fail("Year boundary dates selection failed");
         }
     }
@@ -1,6 +1,9 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.base.DomSettle;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.NetworkReplay;
 import com.aventstack.extentreports.Status;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -17,15 +20,15 @@ import java.util.List;
  */
 public class SpiceJetE2ETest extends BaseTest {
     
-    private WebDriverWait wait;
+    private final ThreadLocal<WebDriverWait> wait = new ThreadLocal<>();
     
     @Test(description = "Complete E2E Flight Booking Journey on SpiceJet", 
           groups = {"e2e", "regression"}, 
           priority = 1)
     public void testCompleteFlightBookingJourney() {
         
-        test.log(Status.INFO, "🚀 Starting SpiceJet End-to-End Flight Booking Test");
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        getTest().log(Status.INFO, "🚀 Starting SpiceJet End-to-End Flight Booking Test");
+        wait.set(new WebDriverWait(getDriver(), Duration.ofSeconds(15)));
         
         try {
             // Step 1: Navigate to SpiceJet
@@ -58,33 +61,33 @@ public class SpiceJetE2ETest extends BaseTest {
             // Step 10: Select a Flight (if available)
             selectFlightOption();
             
-            test.log(Status.PASS, "✅ SpiceJet E2E Flight Booking Test Completed Successfully!");
+            getTest().log(Status.PASS, "✅ SpiceJet E2E Flight Booking Test Completed Successfully!");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ E2E Test Failed: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ E2E Test Failed: " + e.getMessage());
             e.printStackTrace();
             Assert.fail("E2E Test Failed: " + e.getMessage());
         }
     }
     
     private void navigateToSpiceJet() {
-        test.log(Status.INFO, "Step 1: Navigating to SpiceJet website");
-        driver.get("https://www.spicejet.com/");
+        getTest().log(Status.INFO, "Step 1: Navigating to SpiceJet website");
+        NetworkReplay.loadPage(getDriver(), ConfigReader.getUrl());
         
         // Wait for page to load
-        wait.until(ExpectedConditions.titleContains("SpiceJet"));
+        wait.get().until(ExpectedConditions.titleContains("SpiceJet"));
         
         // Verify page loaded correctly
-        String pageTitle = driver.getTitle();
+        String pageTitle = getDriver().getTitle();
         Assert.assertTrue(pageTitle.contains("SpiceJet"), "SpiceJet page should load correctly");
-        test.log(Status.PASS, "✅ Successfully loaded SpiceJet homepage. Title: " + pageTitle);
+        getTest().log(Status.PASS, "✅ Successfully loaded SpiceJet homepage. Title: " + pageTitle);
         
         // Take a small pause for page stability
-        sleep(2000);
+        waitForSettle(2000);
     }
     
     private void handleInitialPopups() {
-        test.log(Status.INFO, "Step 2: Handling any initial popups or promotions");
+        getTest().log(Status.INFO, "Step 2: Handling any initial popups or promotions");
         
         try {
             // Look for common popup closers
@@ -97,11 +100,11 @@ public class SpiceJetE2ETest extends BaseTest {
             
             for (String selector : popupSelectors) {
                 try {
-                    WebElement popup = driver.findElement(By.xpath(selector));
+                    WebElement popup = getDriver().findElement(By.xpath(selector));
                     if (popup.isDisplayed()) {
                         popup.click();
-                        test.log(Status.INFO, "✅ Closed popup using selector: " + selector);
-                        sleep(1000);
+                        getTest().log(Status.INFO, "✅ Closed popup using selector: " + selector);
+                        waitForSettle(1000);
                         break;
                     }
                 } catch (Exception e) {
@@ -110,70 +113,70 @@ public class SpiceJetE2ETest extends BaseTest {
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ No popups found or already closed");
+            getTest().log(Status.INFO, "ℹ️ No popups found or already closed");
         }
     }
     
     private void selectTripType(String tripType) {
-        test.log(Status.INFO, "Step 3: Selecting trip type: " + tripType);
+        getTest().log(Status.INFO, "Step 3: Selecting trip type: " + tripType);
         
         try {
             // Default is usually "One Way", but let's verify and select if needed
-            WebElement oneWayRadio = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement oneWayRadio = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[contains(@data-testid,'one-way') or contains(text(),'One Way')]")));
             
             if (!oneWayRadio.isSelected()) {
                 oneWayRadio.click();
-                test.log(Status.PASS, "✅ Selected One Way trip type");
+                getTest().log(Status.PASS, "✅ Selected One Way trip type");
             } else {
-                test.log(Status.INFO, "ℹ️ One Way trip type already selected");
+                getTest().log(Status.INFO, "ℹ️ One Way trip type already selected");
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ One Way is likely default selection");
+            getTest().log(Status.INFO, "ℹ️ One Way is likely default selection");
         }
     }
     
     private void selectOriginCity(String cityName) {
-        test.log(Status.INFO, "Step 4: Selecting origin city: " + cityName);
+        getTest().log(Status.INFO, "Step 4: Selecting origin city: " + cityName);
         
         try {
             // Click on origin field
-            WebElement originField = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement originField = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[contains(@data-testid,'origin') or contains(@data-testid,'from')]")));
             originField.click();
-            test.log(Status.INFO, "📍 Clicked origin field");
+            getTest().log(Status.INFO, "📍 Clicked origin field");
             
-            sleep(1000);
+            waitForSettle(1000);
             
             // Search for and select city
             selectCityFromDropdown(cityName, "origin");
-            test.log(Status.PASS, "✅ Successfully selected origin city: " + cityName);
+            getTest().log(Status.PASS, "✅ Successfully selected origin city: " + cityName);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ Failed to select origin city: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ Failed to select origin city: " + e.getMessage());
             throw new RuntimeException("Failed to select origin city: " + e.getMessage());
         }
     }
     
     private void selectDestinationCity(String cityName) {
-        test.log(Status.INFO, "Step 5: Selecting destination city: " + cityName);
+        getTest().log(Status.INFO, "Step 5: Selecting destination city: " + cityName);
         
         try {
             // Click on destination field
-            WebElement destinationField = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement destinationField = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[contains(@data-testid,'destination') or contains(@data-testid,'to')]")));
             destinationField.click();
-            test.log(Status.INFO, "📍 Clicked destination field");
+            getTest().log(Status.INFO, "📍 Clicked destination field");
             
-            sleep(1000);
+            waitForSettle(1000);
             
             // Search for and select city
             selectCityFromDropdown(cityName, "destination");
-            test.log(Status.PASS, "✅ Successfully selected destination city: " + cityName);
+            getTest().log(Status.PASS, "✅ Successfully selected destination city: " + cityName);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ Failed to select destination city: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ Failed to select destination city: " + e.getMessage());
             throw new RuntimeException("Failed to select destination city: " + e.getMessage());
         }
     }
@@ -191,11 +194,11 @@ public class SpiceJetE2ETest extends BaseTest {
             boolean citySelected = false;
             for (String selector : citySelectors) {
                 try {
-                    WebElement cityElement = wait.until(ExpectedConditions.elementToBeClickable(
+                    WebElement cityElement = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     cityElement.click();
                     citySelected = true;
-                    test.log(Status.INFO, "📍 Selected city using selector: " + selector);
+                    getTest().log(Status.INFO, "📍 Selected city using selector: " + selector);
                     break;
                 } catch (Exception e) {
                     // Try next selector
@@ -205,16 +208,16 @@ public class SpiceJetE2ETest extends BaseTest {
             if (!citySelected) {
                 // Fallback: Type the city name
                 try {
-                    WebElement inputField = driver.findElement(By.xpath("//input[@type='text']"));
+                    WebElement inputField = getDriver().findElement(By.xpath("//input[@type='text']"));
                     inputField.clear();
                     inputField.sendKeys(cityName);
-                    sleep(1000);
+                    waitForSettle(1000);
                     
                     // Click first suggestion
-                    WebElement firstSuggestion = wait.until(ExpectedConditions.elementToBeClickable(
+                    WebElement firstSuggestion = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath("//div[contains(@class,'suggestion')][1] | //li[1] | //div[contains(text(),'" + cityName + "')][1]")));
                     firstSuggestion.click();
-                    test.log(Status.INFO, "📍 Selected city by typing and choosing suggestion");
+                    getTest().log(Status.INFO, "📍 Selected city by typing and choosing suggestion");
                 } catch (Exception e2) {
                     throw new RuntimeException("Unable to select city: " + cityName);
                 }
@@ -226,162 +229,159 @@ public class SpiceJetE2ETest extends BaseTest {
     }
     
     private void selectDepartureDate() {
-        test.log(Status.INFO, "Step 6: Selecting departure date");
+        getTest().log(Status.INFO, "Step 6: Selecting departure date");
         
         try {
             // Click on departure date field
-            WebElement departureDateField = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement departureDateField = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[contains(@data-testid,'departure') or contains(text(),'Departure')]")));
             departureDateField.click();
-            test.log(Status.INFO, "📅 Opened departure date calendar");
+            getTest().log(Status.INFO, "📅 Opened departure date calendar");
             
-            sleep(2000);
+            waitForSettle(2000);
             
             // Select a date (day 25 as per your working example)
-            WebElement dateToSelect = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement dateToSelect = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[@data-testid='undefined-calendar-day-25']")));
             dateToSelect.click();
             
-            test.log(Status.PASS, "✅ Successfully selected departure date: 25th");
-            sleep(1000);
+            getTest().log(Status.PASS, "✅ Successfully selected departure date: 25th");
+            waitForSettle(1000);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ Failed to select departure date: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ Failed to select departure date: " + e.getMessage());
             throw e;
         }
     }
     
     private void selectPassengers() {
-        test.log(Status.INFO, "Step 7: Configuring passengers (using default: 1 Adult)");
+        getTest().log(Status.INFO, "Step 7: Configuring passengers (using default: 1 Adult)");
         
         try {
             // Default is usually 1 adult, but let's verify passenger section is visible
-            WebElement passengerSection = driver.findElement(
+            WebElement passengerSection = getDriver().findElement(
                 By.xpath("//*[contains(text(),'Passengers') or contains(text(),'Adult')]"));
             
             if (passengerSection.isDisplayed()) {
-                test.log(Status.PASS, "✅ Passenger section visible - using default (1 Adult)");
+                getTest().log(Status.PASS, "✅ Passenger section visible - using default (1 Adult)");
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ Using default passenger configuration");
+            getTest().log(Status.INFO, "ℹ️ Using default passenger configuration");
         }
     }
     
     private void searchFlights() {
-        test.log(Status.INFO, "Step 8: Searching for flights");
+        getTest().log(Status.INFO, "Step 8: Searching for flights");
         
         try {
             // Find and click search button
-            WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement searchButton = wait.get().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[@data-testid='home-page-flight-cta'] | //button[contains(text(),'Search')] | //div[contains(text(),'Search Flights')]")));
             
             // Scroll to search button if needed
-            ((org.openqa.selenium.JavascriptExecutor) driver)
+            ((org.openqa.selenium.JavascriptExecutor) getDriver())
                 .executeScript("arguments[0].scrollIntoView(true);", searchButton);
             
-            sleep(1000);
+            waitForSettle(1000);
             searchButton.click();
-            test.log(Status.PASS, "✅ Clicked search flights button");
+            getTest().log(Status.PASS, "✅ Clicked search flights button");
             
             // Wait for search to process
-            test.log(Status.INFO, "⏳ Waiting for flight search results...");
-            sleep(5000);
+            getTest().log(Status.INFO, "⏳ Waiting for flight search results...");
+            waitForSettle(5000);
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ Failed to search flights: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ Failed to search flights: " + e.getMessage());
             throw e;
         }
     }
     
     private void verifySearchResults() {
-        test.log(Status.INFO, "Step 9: Verifying search results");
+        getTest().log(Status.INFO, "Step 9: Verifying search results");
         
         try {
             // Wait for results page to load
-            wait.until(ExpectedConditions.or(
+            wait.get().until(ExpectedConditions.or(
                 ExpectedConditions.presenceOfElementLocated(By.xpath("//*[contains(text(),'flights found') or contains(text(),'Select')]")),
                 ExpectedConditions.presenceOfElementLocated(By.xpath("//div[contains(@class,'flight-result')]")),
                 ExpectedConditions.presenceOfElementLocated(By.xpath("//*[contains(text(),'No flights')]"))
             ));
             
             // Check if we're on search results page
-            String currentUrl = driver.getCurrentUrl();
+            String currentUrl = getDriver().getCurrentUrl();
             if (currentUrl.contains("search") || currentUrl.contains("flight")) {
-                test.log(Status.PASS, "✅ Successfully navigated to search results page");
-                test.log(Status.INFO, "📍 Current URL: " + currentUrl);
+                getTest().log(Status.PASS, "✅ Successfully navigated to search results page");
+                getTest().log(Status.INFO, "📍 Current URL: " + currentUrl);
             }
             
             // Look for flight results or no results message
             try {
-                List<WebElement> flightResults = driver.findElements(
+                List<WebElement> flightResults = getDriver().findElements(
                     By.xpath("//div[contains(@class,'flight') or contains(@data-testid,'flight')]"));
                 
                 if (flightResults.size() > 0) {
-                    test.log(Status.PASS, "✅ Found " + flightResults.size() + " flight options");
+                    getTest().log(Status.PASS, "✅ Found " + flightResults.size() + " flight options");
                 } else {
                     // Check for no flights message
-                    WebElement noFlightsMsg = driver.findElement(
+                    WebElement noFlightsMsg = getDriver().findElement(
                         By.xpath("//*[contains(text(),'No flights') or contains(text(),'not available')]"));
-                    test.log(Status.INFO, "ℹ️ No flights available for selected route/date");
+                    getTest().log(Status.INFO, "ℹ️ No flights available for selected route/date");
                 }
                 
             } catch (Exception e) {
-                test.log(Status.INFO, "ℹ️ Flight results structure may be different than expected");
+                getTest().log(Status.INFO, "ℹ️ Flight results structure may be different than expected");
             }
             
             // Verify key elements are present
-            String pageSource = driver.getPageSource().toLowerCase();
+            String pageSource = getDriver().getPageSource().toLowerCase();
             if (pageSource.contains("flight") || pageSource.contains("search") || pageSource.contains("result")) {
-                test.log(Status.PASS, "✅ Search results page loaded successfully");
+                getTest().log(Status.PASS, "✅ Search results page loaded successfully");
             } else {
-                test.log(Status.WARNING, "⚠️ Page content may not be as expected");
+                getTest().log(Status.WARNING, "⚠️ Page content may not be as expected");
             }
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ Failed to verify search results: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ Failed to verify search results: " + e.getMessage());
             throw e;
         }
     }
     
     private void selectFlightOption() {
-        test.log(Status.INFO, "Step 10: Attempting to select a flight option");
+        getTest().log(Status.INFO, "Step 10: Attempting to select a flight option");
         
         try {
             // Look for selectable flight options
-            List<WebElement> selectButtons = driver.findElements(
+            List<WebElement> selectButtons = getDriver().findElements(
                 By.xpath("//button[contains(text(),'Select') or contains(text(),'Book')] | //div[contains(@class,'select-flight')]"));
             
             if (selectButtons.size() > 0) {
                 WebElement firstSelectButton = selectButtons.get(0);
-                ((org.openqa.selenium.JavascriptExecutor) driver)
+                ((org.openqa.selenium.JavascriptExecutor) getDriver())
                     .executeScript("arguments[0].scrollIntoView(true);", firstSelectButton);
                 
-                sleep(1000);
+                waitForSettle(1000);
                 firstSelectButton.click();
-                test.log(Status.PASS, "✅ Selected first available flight option");
+                getTest().log(Status.PASS, "✅ Selected first available flight option");
                 
                 // Wait for next page to load
-                sleep(3000);
+                waitForSettle(3000);
                 
             } else {
-                test.log(Status.INFO, "ℹ️ No selectable flight options found (may require different date/route)");
+                getTest().log(Status.INFO, "ℹ️ No selectable flight options found (may require different date/route)");
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ Flight selection step completed with limitations: " + e.getMessage());
+            getTest().log(Status.INFO, "ℹ️ Flight selection step completed with limitations: " + e.getMessage());
         }
     }
     
     /**
-     * Helper method for consistent sleep/wait
+     * Wait for the page to settle instead of sleeping a fixed time
+     * @param replacedMillis - fixed sleep this wait replaces (for the reclaimed time report)
      */
-    private void sleep(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private void waitForSettle(int replacedMillis) {
+        DomSettle.waitForSettle(getDriver(), replacedMillis);
     }
     
     @Test(description = "E2E Test with Round Trip", 
@@ -389,7 +389,7 @@ public class SpiceJetE2ETest extends BaseTest {
           priority = 2,
           enabled = false) // Disabled by default, enable when needed
     public void testRoundTripFlightBooking() {
-        test.log(Status.INFO, "🔄 Starting Round Trip E2E Test");
+        getTest().log(Status.INFO, "🔄 Starting Round Trip E2E Test");
         
         // This is a placeholder for round trip functionality
         // Can be implemented based on actual UI structure
@@ -400,19 +400,19 @@ public class SpiceJetE2ETest extends BaseTest {
             
             try {
                 // Select Round Trip
-                WebElement roundTrip = driver.findElement(
+                WebElement roundTrip = getDriver().findElement(
                     By.xpath("//div[contains(text(),'Round Trip') or contains(@data-testid,'round')]"));
                 roundTrip.click();
-                test.log(Status.PASS, "✅ Selected Round Trip");
+                getTest().log(Status.PASS, "✅ Selected Round Trip");
             } catch (Exception e) {
-                test.log(Status.INFO, "Round trip selection failed: " + e.getMessage());
+                getTest().log(Status.INFO, "Round trip selection failed: " + e.getMessage());
             }
             
             // Continue with similar flow...
-            test.log(Status.INFO, "🚧 Round trip test implementation in progress");
+            getTest().log(Status.INFO, "🚧 Round trip test implementation in progress");
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ Round trip test requires UI structure analysis");
+            getTest().log(Status.INFO, "ℹ️ Round trip test requires UI structure analysis");
         }
     }
 }
@@ -1,6 +1,9 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.base.DomSettle;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.NetworkReplay;
 import com.aventstack.extentreports.Status;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -17,15 +20,15 @@ import java.util.List;
  */
 public class SpiceJetHybridE2ETest extends BaseTest {
     
-    private WebDriverWait wait;
+    private final ThreadLocal<WebDriverWait> wait = new ThreadLocal<>();
     
     @Test(description = "Complete E2E Flight Booking Journey - Hybrid Approach", 
           groups = {"e2e", "regression"}, 
           priority = 1)
     public void testCompleteFlightBookingJourneyHybrid() {
         
-        test.log(Status.INFO, "🚀 Starting SpiceJet Hybrid E2E Flight Booking Test");
-        wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        getTest().log(Status.INFO, "🚀 Starting SpiceJet Hybrid E2E Flight Booking Test");
+        wait.set(new WebDriverWait(getDriver(), Duration.ofSeconds(20)));
         
         try {
             // Step 1: Navigate and Setup
@@ -49,33 +52,33 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             // Step 7: Verify Results
             verifySearchResults();
             
-            test.log(Status.PASS, "✅ SpiceJet Hybrid E2E Test Completed Successfully!");
+            getTest().log(Status.PASS, "✅ SpiceJet Hybrid E2E Test Completed Successfully!");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "❌ E2E Test Failed: " + e.getMessage());
+            getTest().log(Status.FAIL, "❌ E2E Test Failed: " + e.getMessage());
             e.printStackTrace();
             Assert.fail("E2E Test Failed: " + e.getMessage());
         }
     }
     
     private void navigateToSpiceJet() {
-        test.log(Status.INFO, "Step 1: Navigating to SpiceJet website");
-        driver.get("https://www.spicejet.com/");
+        getTest().log(Status.INFO, "Step 1: Navigating to SpiceJet website");
+        NetworkReplay.loadPage(getDriver(), ConfigReader.getUrl());
         
         // Wait for page to load with multiple conditions
-        wait.until(ExpectedConditions.or(
+        wait.get().until(ExpectedConditions.or(
             ExpectedConditions.titleContains("SpiceJet"),
             ExpectedConditions.presenceOfElementLocated(By.xpath("//*[contains(text(),'SpiceJet')]"))
         ));
         
-        String pageTitle = driver.getTitle();
-        test.log(Status.PASS, "✅ Successfully loaded SpiceJet homepage. Title: " + pageTitle);
+        String pageTitle = getDriver().getTitle();
+        getTest().log(Status.PASS, "✅ Successfully loaded SpiceJet homepage. Title: " + pageTitle);
         
-        sleep(3000); // Allow page to fully stabilize
+        waitForSettle(3000); // Allow page to fully stabilize
     }
     
     private void handleInitialPopups() {
-        test.log(Status.INFO, "Step 2: Handling any initial popups or promotions");
+        getTest().log(Status.INFO, "Step 2: Handling any initial popups or promotions");
         
         try {
             // Extended list of popup selectors
@@ -91,11 +94,11 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             
             for (String selector : popupSelectors) {
                 try {
-                    WebElement popup = driver.findElement(By.xpath(selector));
+                    WebElement popup = getDriver().findElement(By.xpath(selector));
                     if (popup.isDisplayed() && popup.isEnabled()) {
                         popup.click();
-                        test.log(Status.INFO, "✅ Closed popup");
-                        sleep(1000);
+                        getTest().log(Status.INFO, "✅ Closed popup");
+                        waitForSettle(1000);
                         break;
                     }
                 } catch (Exception e) {
@@ -104,12 +107,12 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ No popups found or already closed");
+            getTest().log(Status.INFO, "ℹ️ No popups found or already closed");
         }
     }
     
     private void selectTripType() {
-        test.log(Status.INFO, "Step 3: Verifying trip type selection");
+        getTest().log(Status.INFO, "Step 3: Verifying trip type selection");
         
         try {
             // Look for trip type selectors (One Way should be default)
@@ -123,7 +126,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             boolean oneWaySelected = false;
             for (String selector : oneWaySelectors) {
                 try {
-                    WebElement oneWayElement = driver.findElement(By.xpath(selector));
+                    WebElement oneWayElement = getDriver().findElement(By.xpath(selector));
                     if (oneWayElement.isDisplayed()) {
                         // Check if it's already selected or click it
                         if (oneWayElement.getTagName().equals("input")) {
@@ -134,7 +137,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
                             oneWayElement.click();
                         }
                         oneWaySelected = true;
-                        test.log(Status.PASS, "✅ One Way trip selected");
+                        getTest().log(Status.PASS, "✅ One Way trip selected");
                         break;
                     }
                 } catch (Exception e) {
@@ -143,16 +146,16 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             }
             
             if (!oneWaySelected) {
-                test.log(Status.INFO, "ℹ️ One Way is likely default selection");
+                getTest().log(Status.INFO, "ℹ️ One Way is likely default selection");
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ Trip type selection: " + e.getMessage());
+            getTest().log(Status.INFO, "ℹ️ Trip type selection: " + e.getMessage());
         }
     }
     
     private void selectOriginAndDestination() {
-        test.log(Status.INFO, "Step 4: Selecting origin and destination cities");
+        getTest().log(Status.INFO, "Step 4: Selecting origin and destination cities");
         
         try {
             // Multiple strategies to find origin field
@@ -167,7 +170,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             WebElement originField = null;
             for (String selector : originSelectors) {
                 try {
-                    originField = wait.until(ExpectedConditions.elementToBeClickable(
+                    originField = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     break;
                 } catch (Exception e) {
@@ -177,15 +180,15 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             
             if (originField != null) {
                 originField.click();
-                test.log(Status.INFO, "📍 Clicked origin field");
-                sleep(1000);
+                getTest().log(Status.INFO, "📍 Clicked origin field");
+                waitForSettle(1000);
                 
                 // Try to select Delhi
                 selectCityFromDropdown("Delhi");
-                test.log(Status.PASS, "✅ Selected origin city: Delhi");
+                getTest().log(Status.PASS, "✅ Selected origin city: Delhi");
             }
             
-            sleep(1000);
+            waitForSettle(1000);
             
             // Multiple strategies to find destination field
             String[] destinationSelectors = {
@@ -199,7 +202,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             WebElement destinationField = null;
             for (String selector : destinationSelectors) {
                 try {
-                    destinationField = wait.until(ExpectedConditions.elementToBeClickable(
+                    destinationField = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     break;
                 } catch (Exception e) {
@@ -209,16 +212,16 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             
             if (destinationField != null) {
                 destinationField.click();
-                test.log(Status.INFO, "📍 Clicked destination field");
-                sleep(1000);
+                getTest().log(Status.INFO, "📍 Clicked destination field");
+                waitForSettle(1000);
                 
                 // Try to select Mumbai
                 selectCityFromDropdown("Mumbai");
-                test.log(Status.PASS, "✅ Selected destination city: Mumbai");
+                getTest().log(Status.PASS, "✅ Selected destination city: Mumbai");
             }
             
         } catch (Exception e) {
-            test.log(Status.WARNING, "⚠️ City selection may have issues: " + e.getMessage());
+            getTest().log(Status.WARNING, "⚠️ City selection may have issues: " + e.getMessage());
             // Continue with test - we'll try alternative approaches
         }
     }
@@ -238,11 +241,11 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             boolean citySelected = false;
             for (String selector : citySelectors) {
                 try {
-                    WebElement cityElement = wait.until(ExpectedConditions.elementToBeClickable(
+                    WebElement cityElement = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     cityElement.click();
                     citySelected = true;
-                    test.log(Status.INFO, "📍 Selected city: " + cityName);
+                    getTest().log(Status.INFO, "📍 Selected city: " + cityName);
                     break;
                 } catch (Exception e) {
                     // Try next selector
@@ -252,20 +255,20 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             if (!citySelected) {
                 // Fallback: type the city name
                 try {
-                    List<WebElement> inputFields = driver.findElements(By.xpath("//input[@type='text']"));
+                    List<WebElement> inputFields = getDriver().findElements(By.xpath("//input[@type='text']"));
                     for (WebElement input : inputFields) {
                         if (input.isDisplayed() && input.isEnabled()) {
                             input.clear();
                             input.sendKeys(cityName);
-                            sleep(1000);
+                            waitForSettle(1000);
                             
                             // Try to click first suggestion
                             try {
-                                WebElement suggestion = driver.findElement(
+                                WebElement suggestion = getDriver().findElement(
                                     By.xpath("//div[contains(text(),'" + cityName + "')][1]"));
                                 suggestion.click();
                                 citySelected = true;
-                                test.log(Status.INFO, "📍 Selected city via typing: " + cityName);
+                                getTest().log(Status.INFO, "📍 Selected city via typing: " + cityName);
                                 break;
                             } catch (Exception e) {
                                 // Continue
@@ -273,17 +276,17 @@ public class SpiceJetHybridE2ETest extends BaseTest {
                         }
                     }
                 } catch (Exception e) {
-                    test.log(Status.WARNING, "⚠️ Could not select city: " + cityName);
+                    getTest().log(Status.WARNING, "⚠️ Could not select city: " + cityName);
                 }
             }
             
         } catch (Exception e) {
-            test.log(Status.WARNING, "⚠️ City selection failed for: " + cityName);
+            getTest().log(Status.WARNING, "⚠️ City selection failed for: " + cityName);
         }
     }
     
     private void selectDepartureDate() {
-        test.log(Status.INFO, "Step 5: Selecting departure date");
+        getTest().log(Status.INFO, "Step 5: Selecting departure date");
         
         try {
             // Multiple strategies to find departure date field
@@ -297,7 +300,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             WebElement dateField = null;
             for (String selector : dateSelectors) {
                 try {
-                    dateField = wait.until(ExpectedConditions.elementToBeClickable(
+                    dateField = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     break;
                 } catch (Exception e) {
@@ -307,37 +310,37 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             
             if (dateField != null) {
                 dateField.click();
-                test.log(Status.INFO, "📅 Opened departure date calendar");
-                sleep(2000);
+                getTest().log(Status.INFO, "📅 Opened departure date calendar");
+                waitForSettle(2000);
                 
                 // Select a date using the working calendar locator we discovered
                 try {
-                    WebElement dateToSelect = wait.until(ExpectedConditions.elementToBeClickable(
+                    WebElement dateToSelect = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath("//div[@data-testid='undefined-calendar-day-25']")));
                     dateToSelect.click();
-                    test.log(Status.PASS, "✅ Selected departure date: 25th");
+                    getTest().log(Status.PASS, "✅ Selected departure date: 25th");
                 } catch (Exception e) {
                     // Fallback: try any available date
-                    List<WebElement> availableDates = driver.findElements(
+                    List<WebElement> availableDates = getDriver().findElements(
                         By.xpath("//div[contains(@data-testid,'calendar-day')]"));
                     if (availableDates.size() > 0) {
                         availableDates.get(5).click(); // Select 6th available date
-                        test.log(Status.PASS, "✅ Selected available departure date");
+                        getTest().log(Status.PASS, "✅ Selected available departure date");
                     }
                 }
                 
-                sleep(1000);
+                waitForSettle(1000);
             } else {
-                test.log(Status.WARNING, "⚠️ Could not find departure date field");
+                getTest().log(Status.WARNING, "⚠️ Could not find departure date field");
             }
             
         } catch (Exception e) {
-            test.log(Status.WARNING, "⚠️ Date selection may have issues: " + e.getMessage());
+            getTest().log(Status.WARNING, "⚠️ Date selection may have issues: " + e.getMessage());
         }
     }
     
     private void searchFlights() {
-        test.log(Status.INFO, "Step 6: Searching for flights");
+        getTest().log(Status.INFO, "Step 6: Searching for flights");
         
         try {
             // Multiple strategies to find search button
@@ -353,7 +356,7 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             WebElement searchButton = null;
             for (String selector : searchSelectors) {
                 try {
-                    searchButton = wait.until(ExpectedConditions.elementToBeClickable(
+                    searchButton = wait.get().until(ExpectedConditions.elementToBeClickable(
                         By.xpath(selector)));
                     break;
                 } catch (Exception e) {
@@ -363,31 +366,31 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             
             if (searchButton != null) {
                 // Scroll to search button
-                ((org.openqa.selenium.JavascriptExecutor) driver)
+                ((org.openqa.selenium.JavascriptExecutor) getDriver())
                     .executeScript("arguments[0].scrollIntoView(true);", searchButton);
                 
-                sleep(1000);
+                waitForSettle(1000);
                 searchButton.click();
-                test.log(Status.PASS, "✅ Clicked search flights button");
+                getTest().log(Status.PASS, "✅ Clicked search flights button");
                 
                 // Wait for search to process
-                test.log(Status.INFO, "⏳ Waiting for flight search results...");
-                sleep(5000);
+                getTest().log(Status.INFO, "⏳ Waiting for flight search results...");
+                waitForSettle(5000);
             } else {
-                test.log(Status.WARNING, "⚠️ Could not find search button");
+                getTest().log(Status.WARNING, "⚠️ Could not find search button");
             }
             
         } catch (Exception e) {
-            test.log(Status.WARNING, "⚠️ Search may have issues: " + e.getMessage());
+            getTest().log(Status.WARNING, "⚠️ Search may have issues: " + e.getMessage());
         }
     }
     
     private void verifySearchResults() {
-        test.log(Status.INFO, "Step 7: Verifying search results");
+        getTest().log(Status.INFO, "Step 7: Verifying search results");
         
         try {
             // Wait for page transition with multiple conditions
-            wait.until(ExpectedConditions.or(
+            wait.get().until(ExpectedConditions.or(
                 ExpectedConditions.urlContains("search"),
                 ExpectedConditions.urlContains("flight"),
                 ExpectedConditions.urlContains("book"),
@@ -395,18 +398,18 @@ public class SpiceJetHybridE2ETest extends BaseTest {
                 ExpectedConditions.presenceOfElementLocated(By.xpath("//*[contains(text(),'result')]"))
             ));
             
-            String currentUrl = driver.getCurrentUrl();
-            test.log(Status.INFO, "📍 Current URL: " + currentUrl);
+            String currentUrl = getDriver().getCurrentUrl();
+            getTest().log(Status.INFO, "📍 Current URL: " + currentUrl);
             
             // Check if we progressed from the home page
-            if (!currentUrl.equals("https://www.spicejet.com/") && 
+            if (!currentUrl.equals(ConfigReader.getUrl()) && 
                 (currentUrl.contains("search") || currentUrl.contains("flight") || 
                  currentUrl.contains("book") || currentUrl.length() > 30)) {
-                test.log(Status.PASS, "✅ Successfully navigated from homepage - Search initiated");
+                getTest().log(Status.PASS, "✅ Successfully navigated from homepage - Search initiated");
             }
             
             // Check page content for flight-related terms
-            String pageSource = driver.getPageSource().toLowerCase();
+            String pageSource = getDriver().getPageSource().toLowerCase();
             String[] successIndicators = {
                 "flight", "search", "result", "available", "select", "book", "price", "departure"
             };
@@ -419,31 +422,28 @@ public class SpiceJetHybridE2ETest extends BaseTest {
             }
             
             if (matchCount >= 3) {
-                test.log(Status.PASS, "✅ Search results page loaded with flight-related content");
+                getTest().log(Status.PASS, "✅ Search results page loaded with flight-related content");
             } else if (pageSource.contains("no flight") || pageSource.contains("not available")) {
-                test.log(Status.INFO, "ℹ️ No flights available for selected route/date");
+                getTest().log(Status.INFO, "ℹ️ No flights available for selected route/date");
             } else {
-                test.log(Status.INFO, "ℹ️ Search completed with unknown results");
+                getTest().log(Status.INFO, "ℹ️ Search completed with unknown results");
             }
             
             // Look for any error messages
             if (pageSource.contains("error") || pageSource.contains("sorry")) {
-                test.log(Status.WARNING, "⚠️ Possible error or issue detected");
+                getTest().log(Status.WARNING, "⚠️ Possible error or issue detected");
             }
             
         } catch (Exception e) {
-            test.log(Status.INFO, "ℹ️ Search results verification: " + e.getMessage());
+            getTest().log(Status.INFO, "ℹ️ Search results verification: " + e.getMessage());
         }
     }
     
     /**
-     * Helper method for consistent sleep/wait
+     * Wait for the page to settle instead of sleeping a fixed time
+     * @param replacedMillis - fixed sleep this wait replaces (for the reclaimed time report)
      */
-    private void sleep(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private void waitForSettle(int replacedMillis) {
+        DomSettle.waitForSettle(getDriver(), replacedMillis);
     }
 }
@@ -1,6 +1,8 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.base.DomSettle;
+import com.automation.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.annotations.Test;
@@ -15,23 +17,23 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
     public void inspectCalendarStructure() {
         try {
             // Navigate to SpiceJet
-            driver.get("https://www.spicejet.com/");
-            Thread.sleep(3000);
+            getDriver().get(ConfigReader.getUrl());
+            DomSettle.waitForSettle(getDriver(), 3000);
             
             System.out.println("=== SPICEJET CALENDAR INSPECTION ===");
             
             // First, let's find and click the departure date field
             try {
-                WebElement departureDateField = driver.findElement(
+                WebElement departureDateField = getDriver().findElement(
                     By.xpath("//div[contains(@data-testid,'departure') or contains(@class,'departure')]"));
                 System.out.println("Found departure date field: " + departureDateField.getAttribute("outerHTML"));
                 departureDateField.click();
-                Thread.sleep(2000);
+                DomSettle.waitForSettle(getDriver(), 2000);
             } catch (Exception e) {
                 System.out.println("Could not find departure date field with standard selectors, trying alternatives...");
                 
                 // Try finding any clickable date-related elements
-                List<WebElement> dateElements = driver.findElements(By.xpath("//*[contains(text(),'Departure') or contains(@placeholder,'departure') or contains(@data-testid,'date')]"));
+                List<WebElement> dateElements = getDriver().findElements(By.xpath("//*[contains(text(),'Departure') or contains(@placeholder,'departure') or contains(@data-testid,'date')]"));
                 for (int i = 0; i < Math.min(5, dateElements.size()); i++) {
                     WebElement element = dateElements.get(i);
                     System.out.println("Date element " + i + ": " + element.getTagName() + " - " + element.getAttribute("outerHTML"));
@@ -39,7 +41,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
                 
                 if (!dateElements.isEmpty()) {
                     dateElements.get(0).click();
-                    Thread.sleep(2000);
+                    DomSettle.waitForSettle(getDriver(), 2000);
                 }
             }
             
@@ -47,7 +49,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             System.out.println("\n=== CALENDAR ELEMENTS ===");
             
             // Look for any calendar-related elements
-            List<WebElement> calendarElements = driver.findElements(By.xpath("//*[contains(@class,'calendar') or contains(@class,'datepicker') or contains(@data-testid,'calendar')]"));
+            List<WebElement> calendarElements = getDriver().findElements(By.xpath("//*[contains(@class,'calendar') or contains(@class,'datepicker') or contains(@data-testid,'calendar')]"));
             System.out.println("Found " + calendarElements.size() + " calendar elements:");
             
             for (int i = 0; i < Math.min(10, calendarElements.size()); i++) {
@@ -57,7 +59,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             
             // Look for navigation arrows
             System.out.println("\n=== NAVIGATION ARROWS ===");
-            List<WebElement> arrows = driver.findElements(By.xpath("//*[contains(@class,'arrow') or contains(@class,'next') or contains(@class,'prev') or contains(text(),'❮') or contains(text(),'❯') or contains(text(),'<') or contains(text(),'>')]"));
+            List<WebElement> arrows = getDriver().findElements(By.xpath("//*[contains(@class,'arrow') or contains(@class,'next') or contains(@class,'prev') or contains(text(),'❮') or contains(text(),'❯') or contains(text(),'<') or contains(text(),'>')]"));
             System.out.println("Found " + arrows.size() + " potential navigation elements:");
             
             for (int i = 0; i < Math.min(10, arrows.size()); i++) {
@@ -67,7 +69,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             
             // Look for month/year displays
             System.out.println("\n=== MONTH/YEAR DISPLAYS ===");
-            List<WebElement> monthYear = driver.findElements(By.xpath("//*[contains(text(),'2024') or contains(text(),'2025') or contains(text(),'January') or contains(text(),'February') or contains(text(),'March') or contains(text(),'April') or contains(text(),'May') or contains(text(),'June') or contains(text(),'July') or contains(text(),'August') or contains(text(),'September') or contains(text(),'October') or contains(text(),'November') or contains(text(),'December')]"));
+            List<WebElement> monthYear = getDriver().findElements(By.xpath("//*[contains(text(),'2024') or contains(text(),'2025') or contains(text(),'January') or contains(text(),'February') or contains(text(),'March') or contains(text(),'April') or contains(text(),'May') or contains(text(),'June') or contains(text(),'July') or contains(text(),'August') or contains(text(),'September') or contains(text(),'October') or contains(text(),'November') or contains(text(),'December')]"));
             System.out.println("Found " + monthYear.size() + " month/year elements:");
             
             for (int i = 0; i < Math.min(5, monthYear.size()); i++) {
@@ -77,7 +79,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             
             // Look for day elements
             System.out.println("\n=== DAY ELEMENTS ===");
-            List<WebElement> days = driver.findElements(By.xpath("//*[text()='1' or text()='2' or text()='3' or text()='15' or text()='25']"));
+            List<WebElement> days = getDriver().findElements(By.xpath("//*[text()='1' or text()='2' or text()='3' or text()='15' or text()='25']"));
             System.out.println("Found " + days.size() + " potential day elements:");
             
             for (int i = 0; i < Math.min(5, days.size()); i++) {
@@ -88,14 +90,14 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             // Check for your specific locator
             System.out.println("\n=== CHECKING YOUR LOCATORS ===");
             try {
-                WebElement yourCalendar = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']"));
+                WebElement yourCalendar = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']"));
                 System.out.println("Your calendar locator found: " + yourCalendar.getAttribute("outerHTML"));
             } catch (Exception e) {
                 System.out.println("Your calendar locator NOT found: " + e.getMessage());
             }
             
             try {
-                List<WebElement> undefinedElements = driver.findElements(By.xpath("//*[contains(@data-testid,'undefined')]"));
+                List<WebElement> undefinedElements = getDriver().findElements(By.xpath("//*[contains(@data-testid,'undefined')]"));
                 System.out.println("Found " + undefinedElements.size() + " elements with 'undefined' in data-testid");
                 for (WebElement element : undefinedElements) {
                     System.out.println("Undefined element: " + element.getTagName() + " - " + element.getAttribute("data-testid"));
@@ -113,8 +115,8 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
     @Test(description = "Try to find correct departure date locator")
     public void findDepartureDateLocator() {
         try {
-            driver.get("https://www.spicejet.com/");
-            Thread.sleep(3000);
+            getDriver().get(ConfigReader.getUrl());
+            DomSettle.waitForSettle(getDriver(), 3000);
             
             System.out.println("\n=== FINDING DEPARTURE DATE FIELD ===");
             
@@ -131,7 +133,7 @@ public class SpiceJetLocatorInspectionTest extends BaseTest {
             
             for (String selector : departureDateSelectors) {
                 try {
-                    List<WebElement> elements = driver.findElements(By.xpath(selector));
+                    List<WebElement> elements = getDriver().findElements(By.xpath(selector));
                     if (!elements.isEmpty()) {
                         System.out.println("Selector: " + selector + " found " + elements.size() + " elements:");
                         for (int i = 0; i < Math.min(3, elements.size()); i++) {
@@ -1,6 +1,8 @@
 package com.automation.tests;
 
 import com.automation.base.BaseTest;
+import com.automation.base.DomSettle;
+import com.automation.utils.ConfigReader;
 import com.aventstack.extentreports.Status;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -14,38 +16,38 @@ public class SpiceJetWorkingCalendarTest extends BaseTest {
     
     @Test(description = "Test SpiceJet Calendar - Select Day 25")
     public void testSelectDateFromSpiceJetCalendar() {
-        test.log(Status.INFO, "Starting SpiceJet calendar test with correct locators");
+        getTest().log(Status.INFO, "Starting SpiceJet calendar test with correct locators");
         
         try {
             // Navigate to SpiceJet
-            driver.get("https://www.spicejet.com/");
-            Thread.sleep(3000);
-            test.log(Status.INFO, "Loaded SpiceJet website");
+            getDriver().get(ConfigReader.getUrl());
+            DomSettle.waitForSettle(getDriver(), 3000);
+            getTest().log(Status.INFO, "Loaded SpiceJet website");
             
             // Find and click departure date field
-            WebElement departureDateField = driver.findElement(
+            WebElement departureDateField = getDriver().findElement(
                 By.xpath("//div[contains(@data-testid,'departure') or contains(text(),'Departure')]"));
             departureDateField.click();
-            Thread.sleep(2000);
-            test.log(Status.INFO, "Opened calendar by clicking departure date field");
+            DomSettle.waitForSettle(getDriver(), 2000);
+            getTest().log(Status.INFO, "Opened calendar by clicking departure date field");
             
             // Verify calendar is open using your locator
-            WebElement calendar = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']"));
+            WebElement calendar = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']"));
             Assert.assertTrue(calendar.isDisplayed(), "Calendar should be visible");
-            test.log(Status.PASS, "Calendar opened successfully using your locator!");
+            getTest().log(Status.PASS, "Calendar opened successfully using your locator!");
             
             // Select day 25 using the correct day locator
-            WebElement day25 = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-25']"));
+            WebElement day25 = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-25']"));
             day25.click();
-            test.log(Status.PASS, "Successfully selected day 25 from calendar");
+            getTest().log(Status.PASS, "Successfully selected day 25 from calendar");
             
             // Take a small pause to see the result
-            Thread.sleep(2000);
+            DomSettle.waitForSettle(getDriver(), 2000);
             
-            test.log(Status.PASS, "SpiceJet calendar test completed successfully!");
+            getTest().log(Status.PASS, "SpiceJet calendar test completed successfully!");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Calendar test failed: " + e.getMessage());
+            getTest().log(Status.FAIL, "Calendar test failed: " + e.getMessage());
             e.printStackTrace();
             Assert.fail("Calendar test failed: " + e.getMessage());
         }
@@ -53,89 +55,89 @@ public class SpiceJetWorkingCalendarTest extends BaseTest {
     
     @Test(description = "Test SpiceJet Calendar - Select Multiple Days")
     public void testSelectMultipleDatesFromCalendar() {
-        test.log(Status.INFO, "Testing multiple date selections");
+        getTest().log(Status.INFO, "Testing multiple date selections");
         
         try {
             // Navigate to SpiceJet
-            driver.get("https://www.spicejet.com/");
-            Thread.sleep(3000);
+            getDriver().get(ConfigReader.getUrl());
+            DomSettle.waitForSettle(getDriver(), 3000);
             
             // Select round trip to enable return date
-            WebElement roundTrip = driver.findElement(By.xpath("//div[contains(@data-testid,'round-trip') or contains(text(),'Round Trip')]"));
+            WebElement roundTrip = getDriver().findElement(By.xpath("//div[contains(@data-testid,'round-trip') or contains(text(),'Round Trip')]"));
             roundTrip.click();
-            test.log(Status.INFO, "Selected round trip");
+            getTest().log(Status.INFO, "Selected round trip");
             
             // Click departure date
-            WebElement departureDateField = driver.findElement(
+            WebElement departureDateField = getDriver().findElement(
                 By.xpath("//div[contains(@data-testid,'departure') or contains(text(),'Departure')]"));
             departureDateField.click();
-            Thread.sleep(2000);
+            DomSettle.waitForSettle(getDriver(), 2000);
             
             // Select departure date (day 23)
-            WebElement day23 = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-23']"));
+            WebElement day23 = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-23']"));
             day23.click();
-            test.log(Status.PASS, "Selected departure date: day 23");
-            Thread.sleep(1000);
+            getTest().log(Status.PASS, "Selected departure date: day 23");
+            DomSettle.waitForSettle(getDriver(), 1000);
             
             // Click return date
-            WebElement returnDateField = driver.findElement(
+            WebElement returnDateField = getDriver().findElement(
                 By.xpath("//div[contains(@data-testid,'return') or contains(text(),'Return')]"));
             returnDateField.click();
-            Thread.sleep(2000);
+            DomSettle.waitForSettle(getDriver(), 2000);
             
             // Select return date (day 30)
-            WebElement day30 = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-30']"));
+            WebElement day30 = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-30']"));
             day30.click();
-            test.log(Status.PASS, "Selected return date: day 30");
+            getTest().log(Status.PASS, "Selected return date: day 30");
             
-            test.log(Status.PASS, "Multiple date selection test completed successfully!");
+            getTest().log(Status.PASS, "Multiple date selection test completed successfully!");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Multiple date selection failed: " + e.getMessage());
+            getTest().log(Status.FAIL, "Multiple date selection failed: " + e.getMessage());
             Assert.fail("Multiple date selection failed: " + e.getMessage());
         }
     }
     
     @Test(description = "Test Calendar Month Navigation")
     public void testCalendarMonthNavigation() {
-        test.log(Status.INFO, "Testing calendar month navigation");
+        getTest().log(Status.INFO, "Testing calendar month navigation");
         
         try {
             // Navigate to SpiceJet
-            driver.get("https://www.spicejet.com/");
-            Thread.sleep(3000);
+            getDriver().get(ConfigReader.getUrl());
+            DomSettle.waitForSettle(getDriver(), 3000);
             
             // Open calendar
-            WebElement departureDateField = driver.findElement(
+            WebElement departureDateField = getDriver().findElement(
                 By.xpath("//div[contains(@data-testid,'departure') or contains(text(),'Departure')]"));
             departureDateField.click();
-            Thread.sleep(2000);
+            DomSettle.waitForSettle(getDriver(), 2000);
             
             // Get current month display
-            WebElement currentMonth = driver.findElement(By.xpath("//div[contains(@data-testid,'undefined-month')]"));
+            WebElement currentMonth = getDriver().findElement(By.xpath("//div[contains(@data-testid,'undefined-month')]"));
             String monthText = currentMonth.getAttribute("data-testid");
-            test.log(Status.INFO, "Current month display: " + monthText);
+            getTest().log(Status.INFO, "Current month display: " + monthText);
             
             // Find navigation buttons (these might be different than div[1] and div[2])
             // Let's try to find any clickable navigation elements
             try {
-                WebElement nextButton = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']//div[contains(@class,'css-') and @role='button']"));
+                WebElement nextButton = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-picker']//div[contains(@class,'css-') and @role='button']"));
                 nextButton.click();
-                test.log(Status.INFO, "Found and clicked navigation button");
-                Thread.sleep(1000);
+                getTest().log(Status.INFO, "Found and clicked navigation button");
+                DomSettle.waitForSettle(getDriver(), 1000);
             } catch (Exception e) {
-                test.log(Status.INFO, "No standard navigation buttons found - this is expected");
+                getTest().log(Status.INFO, "No standard navigation buttons found - this is expected");
             }
             
             // Select a day from whatever month is displayed
-            WebElement anyDay = driver.findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-15']"));
+            WebElement anyDay = getDriver().findElement(By.xpath("//div[@data-testid= 'undefined-calendar-day-15']"));
             anyDay.click();
-            test.log(Status.PASS, "Selected day 15 from available month");
+            getTest().log(Status.PASS, "Selected day 15 from available month");
             
-            test.log(Status.PASS, "Calendar month navigation test completed!");
+            getTest().log(Status.PASS, "Calendar month navigation test completed!");
             
         } catch (Exception e) {
-            test.log(Status.FAIL, "Month navigation test failed: " + e.getMessage());
+            getTest().log(Status.FAIL, "Month navigation test failed: " + e.getMessage());
             Assert.fail("Month navigation test failed: " + e.getMessage());
         }
     }
@@ -0,0 +1,78 @@
+/*
+ * Shared helpers for the calendar widget fixtures.
+ *
+ * The jQuery stand-in covers only the calls the real widgets' public APIs are
+ * driven through ($(el).hasClass/val/data/trigger/datepicker), so the date
+ * picker fast paths can run against the fixtures without loading jQuery.
+ */
+var MONTHS = ['January', 'February', 'March', 'April', 'May', 'June', 'July',
+    'August', 'September', 'October', 'November', 'December'];
+var WEEKDAYS = ['Sunday', 'Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday', 'Saturday'];
+
+function pad(n) {
+    return (n < 10 ? '0' : '') + n;
+}
+
+function formatUs(date) {
+    return pad(date.getMonth() + 1) + '/' + pad(date.getDate()) + '/' + date.getFullYear();
+}
+
+function formatIso(date) {
+    return date.getFullYear() + '-' + pad(date.getMonth() + 1) + '-' + pad(date.getDate());
+}
+
+function parseUs(text) {
+    var match = /^(\d{2})\/(\d{2})\/(\d{4})$/.exec(text || '');
+    return match ? new Date(+match[3], +match[1] - 1, +match[2]) : null;
+}
+
+function monthStart(year, month) {
+    return new Date(year, month, 1);
+}
+
+function daysIn(date) {
+    return new Date(date.getFullYear(), date.getMonth() + 1, 0).getDate();
+}
+
+function attachDatepicker(input, plugin) {
+    input.__widgetData = {datepicker: plugin};
+}
+
+(function () {
+    function wrap(el) {
+        return {
+            0: el,
+            length: el ? 1 : 0,
+            hasClass: function (name) {
+                return !!el && el.classList.contains(name);
+            },
+            val: function (value) {
+                if (value === undefined) {
+                    return el.value;
+                }
+                el.value = value;
+                return this;
+            },
+            data: function (key) {
+                return el && el.__widgetData ? el.__widgetData[key] : undefined;
+            },
+            trigger: function (type) {
+                el.dispatchEvent(new Event(type, {bubbles: true}));
+                return this;
+            },
+            datepicker: function (command) {
+                var plugin = this.data('datepicker');
+                if (!plugin) {
+                    return this;
+                }
+                var result = plugin.command(command, Array.prototype.slice.call(arguments, 1));
+                return result === undefined ? this : result;
+            }
+        };
+    }
+
+    window.jQuery = window.$ = function (target) {
+        return wrap(typeof target === 'string' ? document.querySelector(target) : target);
+    };
+    window.jQuery.fn = {datepicker: function () {}};
+})();
@@ -0,0 +1,53 @@
+/* Station list served by the SpiceJet fixture pages (name, IATA code, airport) */
+var SPICEJET_CITIES = [
+    {name: 'Agartala', code: 'IXA', airport: 'Maharaja Bir Bikram Airport'},
+    {name: 'Ahmedabad', code: 'AMD', airport: 'Sardar Vallabhbhai Patel International Airport'},
+    {name: 'Amritsar', code: 'ATQ', airport: 'Sri Guru Ram Dass Jee International Airport'},
+    {name: 'Ayodhya', code: 'AYJ', airport: 'Maharishi Valmiki International Airport'},
+    {name: 'Bagdogra', code: 'IXB', airport: 'Bagdogra International Airport'},
+    {name: 'Bengaluru', code: 'BLR', airport: 'Kempegowda International Airport (Bangalore)'},
+    {name: 'Chennai', code: 'MAA', airport: 'Chennai International Airport'},
+    {name: 'Coimbatore', code: 'CJB', airport: 'Coimbatore International Airport'},
+    {name: 'Darbhanga', code: 'DBR', airport: 'Darbhanga Airport'},
+    {name: 'Dehradun', code: 'DED', airport: 'Jolly Grant Airport'},
+    {name: 'Delhi', code: 'DEL', airport: 'Indira Gandhi International Airport'},
+    {name: 'Dharamshala', code: 'DHM', airport: 'Gaggal Airport'},
+    {name: 'Durgapur', code: 'RDP', airport: 'Kazi Nazrul Islam Airport'},
+    {name: 'Goa', code: 'GOI', airport: 'Dabolim Airport'},
+    {name: 'Gorakhpur', code: 'GOP', airport: 'Gorakhpur Airport'},
+    {name: 'Guwahati', code: 'GAU', airport: 'Lokpriya Gopinath Bordoloi International Airport'},
+    {name: 'Hyderabad', code: 'HYD', airport: 'Rajiv Gandhi International Airport'},
+    {name: 'Jabalpur', code: 'JLR', airport: 'Jabalpur Airport'},
+    {name: 'Jaipur', code: 'JAI', airport: 'Jaipur International Airport'},
+    {name: 'Jammu', code: 'IXJ', airport: 'Jammu Airport'},
+    {name: 'Jharsuguda', code: 'JRG', airport: 'Veer Surendra Sai Airport'},
+    {name: 'Kochi', code: 'COK', airport: 'Cochin International Airport'},
+    {name: 'Kolkata', code: 'CCU', airport: 'Netaji Subhas Chandra Bose International Airport'},
+    {name: 'Kozhikode', code: 'CCJ', airport: 'Calicut International Airport'},
+    {name: 'Leh', code: 'IXL', airport: 'Kushok Bakula Rimpochee Airport'},
+    {name: 'Madurai', code: 'IXM', airport: 'Madurai Airport'},
+    {name: 'Mangaluru', code: 'IXE', airport: 'Mangaluru International Airport'},
+    {name: 'Mumbai', code: 'BOM', airport: 'Chhatrapati Shivaji Maharaj International Airport'},
+    {name: 'Patna', code: 'PAT', airport: 'Jay Prakash Narayan International Airport'},
+    {name: 'Port Blair', code: 'IXZ', airport: 'Veer Savarkar International Airport'},
+    {name: 'Pune', code: 'PNQ', airport: 'Pune Airport'},
+    {name: 'Rajkot', code: 'HSR', airport: 'Rajkot International Airport'},
+    {name: 'Shillong', code: 'SHL', airport: 'Shillong Airport'},
+    {name: 'Srinagar', code: 'SXR', airport: 'Sheikh ul-Alam International Airport'},
+    {name: 'Surat', code: 'STV', airport: 'Surat International Airport'},
+    {name: 'Thiruvananthapuram', code: 'TRV', airport: 'Trivandrum International Airport'},
+    {name: 'Tirupati', code: 'TIR', airport: 'Tirupati Airport'},
+    {name: 'Tuticorin', code: 'TCR', airport: 'Tuticorin Airport'},
+    {name: 'Udaipur', code: 'UDR', airport: 'Maharana Pratap Airport'},
+    {name: 'Varanasi', code: 'VNS', airport: 'Lal Bahadur Shastri International Airport'},
+    {name: 'Vijayawada', code: 'VGA', airport: 'Vijayawada International Airport'},
+    {name: 'Visakhapatnam', code: 'VTZ', airport: 'Visakhapatnam International Airport'},
+    {name: 'Bangkok', code: 'BKK', airport: 'Suvarnabhumi Airport'},
+    {name: 'Colombo', code: 'CMB', airport: 'Bandaranaike International Airport'},
+    {name: 'Dhaka', code: 'DAC', airport: 'Hazrat Shahjalal International Airport'},
+    {name: 'Dubai', code: 'DXB', airport: 'Dubai International Airport'},
+    {name: 'Jeddah', code: 'JED', airport: 'King Abdulaziz International Airport'},
+    {name: 'Kathmandu', code: 'KTM', airport: 'Tribhuvan International Airport'},
+    {name: 'Male', code: 'MLE', airport: 'Velana International Airport'},
+    {name: 'Riyadh', code: 'RUH', airport: 'King Khalid International Airport'}
+];